@@ -0,0 +1,73 @@
+package synfron.reshaper.burp.core.utils;
+
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ByteSearchBenchmark {
+    private static final String Needle = "session=deadbeef";
+    private static final byte[][] Needles = new byte[][] {
+            "session=deadbeef".getBytes(StandardCharsets.ISO_8859_1),
+            "token=cafebabe".getBytes(StandardCharsets.ISO_8859_1)
+    };
+
+    @Param({"1024", "65536", "1048576", "10485760"})
+    private int size;
+
+    private byte[] data;
+    private String text;
+    private byte[] needle;
+    private final VectorByteSearch vectorSearch = new VectorByteSearch();
+
+    @Setup
+    public void setup() {
+        String alphabet = "abcdefghijklmnopqrstuvwxyz0123456789=&;\r\n ";
+        Random random = new Random(42);
+        data = new byte[size];
+        for (int index = 0; index < size; index++) {
+            data[index] = (byte) alphabet.charAt(random.nextInt(alphabet.length()));
+        }
+        needle = Needle.getBytes(StandardCharsets.ISO_8859_1);
+        System.arraycopy(needle, 0, data, size - needle.length, needle.length);
+        text = new String(data, StandardCharsets.ISO_8859_1);
+    }
+
+    @Benchmark
+    public boolean stringUtilsContains() {
+        return StringUtils.contains(text, Needle);
+    }
+
+    @Benchmark
+    public boolean stringUtilsContainsWithDecode() {
+        return StringUtils.contains(new String(data, StandardCharsets.ISO_8859_1), Needle);
+    }
+
+    @Benchmark
+    public int scalarIndexOf() {
+        return ByteSearch.scalarIndexOf(data, needle, 0, data.length);
+    }
+
+    @Benchmark
+    public int vectorIndexOf() {
+        return vectorSearch.indexOf(data, needle, 0, data.length);
+    }
+
+    @Benchmark
+    public int scalarIndexOfAny() {
+        return ByteSearch.scalarIndexOfAny(data, Needles, 0, data.length);
+    }
+
+    @Benchmark
+    public int vectorIndexOfAny() {
+        return vectorSearch.indexOfAny(data, Needles, 0, data.length);
+    }
+}
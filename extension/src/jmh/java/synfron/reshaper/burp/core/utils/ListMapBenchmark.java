@@ -0,0 +1,92 @@
+package synfron.reshaper.burp.core.utils;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListMapBenchmark {
+    private static final String[] HeaderNames = {
+            "Host", "User-Agent", "Accept", "Accept-Language", "Accept-Encoding", "Referer",
+            "Cookie", "Cookie", "Cache-Control", "Connection", "Content-Type", "Content-Length",
+            "Set-Cookie", "Set-Cookie", "Set-Cookie", "X-Forwarded-For"
+    };
+
+    private CaseInsensitiveString[] names;
+    private CaseInsensitiveString[] lookupNames;
+    private ListMap<CaseInsensitiveString, String> listMap;
+    private LegacyListMap<CaseInsensitiveString, String> legacyListMap;
+
+    @Setup
+    public void setup() {
+        names = new CaseInsensitiveString[HeaderNames.length];
+        lookupNames = new CaseInsensitiveString[HeaderNames.length + 1];
+        for (int index = 0; index < HeaderNames.length; index++) {
+            names[index] = new CaseInsensitiveString(HeaderNames[index]);
+            lookupNames[index] = new CaseInsensitiveString(HeaderNames[index].toUpperCase());
+        }
+        lookupNames[HeaderNames.length] = new CaseInsensitiveString("X-Missing");
+        listMap = buildListMap();
+        legacyListMap = buildLegacyListMap();
+    }
+
+    @Benchmark
+    public Object buildListMap() {
+        ListMap<CaseInsensitiveString, String> map = new ListMap<>();
+        for (int index = 0; index < names.length; index++) {
+            map.add(names[index], HeaderNames[index]);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Object buildLegacyListMap() {
+        LegacyListMap<CaseInsensitiveString, String> map = new LegacyListMap<>();
+        for (int index = 0; index < names.length; index++) {
+            map.add(names[index], HeaderNames[index]);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public void readListMap(Blackhole blackhole) {
+        for (CaseInsensitiveString name : lookupNames) {
+            blackhole.consume(listMap.getFirst(name));
+            blackhole.consume(listMap.getLast(name));
+        }
+    }
+
+    @Benchmark
+    public void readLegacyListMap(Blackhole blackhole) {
+        for (CaseInsensitiveString name : lookupNames) {
+            blackhole.consume(legacyListMap.getFirst(name));
+            blackhole.consume(legacyListMap.getLast(name));
+        }
+    }
+
+    @Benchmark
+    public Object editListMap() {
+        ListMap<CaseInsensitiveString, String> map = buildListMap();
+        map.setOnly(names[0], "example.com");
+        map.removeAll(names[6]);
+        map.setLastOrAdd(names[12], "session=1");
+        map.add(names[6], "token=2");
+        return map.entries();
+    }
+
+    @Benchmark
+    public Object editLegacyListMap() {
+        LegacyListMap<CaseInsensitiveString, String> map = buildLegacyListMap();
+        map.setOnly(names[0], "example.com");
+        map.removeAll(names[6]);
+        map.setLastOrAdd(names[12], "session=1");
+        map.add(names[6], "token=2");
+        return map.entries();
+    }
+}
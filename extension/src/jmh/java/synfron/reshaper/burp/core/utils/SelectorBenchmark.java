@@ -0,0 +1,63 @@
+package synfron.reshaper.burp.core.utils;
+
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectorBenchmark {
+    private static final String JsonPathExpression = "$.data.items[?(@.status == 'active')].owner.email";
+    private static final String CssSelector = "div.results > ul.items li.item[data-status=active] a.owner";
+
+    private DocumentContext jsonDocument;
+    private Document htmlDocument;
+
+    @Setup
+    public void setup() {
+        StringBuilder json = new StringBuilder("{\"data\":{\"total\":200,\"items\":[");
+        StringBuilder html = new StringBuilder("<html><body><div class=\"results\"><ul class=\"items\">");
+        for (int index = 0; index < 200; index++) {
+            String status = index % 3 == 0 ? "active" : "inactive";
+            json.append(index > 0 ? "," : "")
+                    .append("{\"id\":").append(index)
+                    .append(",\"status\":\"").append(status)
+                    .append("\",\"owner\":{\"name\":\"user").append(index)
+                    .append("\",\"email\":\"user").append(index).append("@example.com\"}}");
+            html.append("<li class=\"item\" data-status=\"").append(status).append("\">")
+                    .append("<a class=\"owner\" href=\"/users/").append(index).append("\">user").append(index).append("</a></li>");
+        }
+        json.append("]}}");
+        html.append("</ul></div></body></html>");
+        jsonDocument = TextUtils.parseJson(json.toString());
+        htmlDocument = Jsoup.parse(html.toString());
+    }
+
+    @Benchmark
+    public Object jsonPathCompiledPerCall() {
+        return jsonDocument.read(JsonPath.compile(JsonPathExpression));
+    }
+
+    @Benchmark
+    public Object jsonPathCached() {
+        return jsonDocument.read(TextUtils.getJsonPath(JsonPathExpression));
+    }
+
+    @Benchmark
+    public Object cssSelectorParsedPerCall() {
+        return htmlDocument.select(CssSelector);
+    }
+
+    @Benchmark
+    public Object cssSelectorCached() {
+        return htmlDocument.select(TextUtils.getCssSelector(CssSelector));
+    }
+}
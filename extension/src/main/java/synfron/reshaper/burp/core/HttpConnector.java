@@ -17,13 +17,13 @@ import net.jodah.expiringmap.ExpiringMap;
 import synfron.reshaper.burp.core.exceptions.WrappedException;
 import synfron.reshaper.burp.core.messages.HttpDataDirection;
 import synfron.reshaper.burp.core.messages.HttpEventInfo;
+import synfron.reshaper.burp.core.messages.entities.http.HttpMessagePatch;
 import synfron.reshaper.burp.core.messages.entities.http.HttpRequestMessage;
 import synfron.reshaper.burp.core.rules.RulesEngine;
 import synfron.reshaper.burp.core.settings.Workspace;
 import synfron.reshaper.burp.core.settings.Workspaces;
 import synfron.reshaper.burp.core.utils.CollectionUtils;
 import synfron.reshaper.burp.core.utils.Log;
-import synfron.reshaper.burp.core.utils.ObjectUtils;
 import synfron.reshaper.burp.core.vars.Variables;
 
 import java.io.*;
@@ -193,6 +193,7 @@ public class HttpConnector implements
         Workspaces.get().setCurrentWorkspace(workspace);
         try {
             rulesEngine.run(eventInfo);
+            eventInfo.handleBudgetOverrun();
             storeSessionVariables(eventInfo);
             if (eventInfo.isChanged()) {
                 sanityCheck(eventInfo);
@@ -257,11 +258,11 @@ public class HttpConnector implements
         HttpRequestMessage requestMessage = eventInfo.getHttpRequestMessage();
         List<String> headers = requestMessage.getHeaders().getValue();
         headers.add(0, "Reshaper-ID: " + eventInfo.getMessageId());
-        byte[] modifiedRequest = ObjectUtils.asHttpMessage(
-                requestMessage.getStatusLine().getValue(),
-                headers,
-                requestMessage.getBody().getValue()
-        );
+        byte[] modifiedRequest = new HttpMessagePatch()
+                .withStatusLine(requestMessage.getStatusLine().getValue())
+                .withHeaders(headers)
+                .withBody(requestMessage.getBody().getValue())
+                .apply();
         HttpRequest httpRequest = HttpRequest.httpRequest(
                 HttpService.httpService(
                         serverSocket.getInetAddress().getHostAddress(),
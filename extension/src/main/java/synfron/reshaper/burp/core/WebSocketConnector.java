@@ -133,6 +133,7 @@ public class WebSocketConnector implements
             Workspaces.get().setCurrentWorkspace(workspace);
             try {
                 rulesEngine.run(eventInfo);
+                eventInfo.handleBudgetOverrun();
                 if (eventInfo.isChanged()) {
                     if (eventInfo.isShouldDrop()) {
                         eventResult.setInterceptResponse(InterceptResponse.Drop);
@@ -12,6 +12,7 @@ public enum WorkspaceTab {
     WebSocketRules ("WebSocket Rules"),
     GlobalVariables("Global Variables"),
     Logs("Logs"),
+    Metrics("Metrics"),
     Settings("Settings", false);
 
     private String name;
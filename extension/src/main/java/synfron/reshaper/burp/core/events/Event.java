@@ -1,50 +1,54 @@
 package synfron.reshaper.burp.core.events;
 
 import java.lang.ref.WeakReference;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 public class Event<A> {
-    private List<WeakReference<IEventListener<A>>> listeners;
+    private static final WeakReference<?>[] NoListeners = new WeakReference<?>[0];
+
+    private volatile WeakReference<?>[] listeners = NoListeners;
+
+    public boolean hasListeners() {
+        return listeners.length != 0;
+    }
 
     public synchronized void clearListeners() {
-        if (listeners != null) {
-            listeners = null;
-        }
+        listeners = NoListeners;
     }
 
     public synchronized void remove(IEventListener<A> listener) {
-        if (listeners != null) {
-            listeners = listeners.stream()
-                    .filter(listenerReference -> listenerReference.get() != null && !Objects.equals(listenerReference.get(), listener))
-                    .collect(Collectors.toCollection(LinkedList::new));
-            if (listeners.isEmpty()) {
-                listeners = null;
+        WeakReference<?>[] listeners = this.listeners;
+        WeakReference<?>[] newListeners = new WeakReference<?>[listeners.length];
+        int size = 0;
+        for (WeakReference<?> listenerReference : listeners) {
+            Object currentListener = listenerReference.get();
+            if (currentListener != null && !Objects.equals(currentListener, listener)) {
+                newListeners[size++] = listenerReference;
             }
         }
+        this.listeners = size == 0 ? NoListeners : Arrays.copyOf(newListeners, size);
     }
 
     public synchronized void add(IEventListener<A> listener) {
-        LinkedList<WeakReference<IEventListener<A>>> listeners = this.listeners == null ? new LinkedList<>() : this.listeners.stream()
-                .filter(listenerReference -> listenerReference.get() != null)
-                .collect(Collectors.toCollection(LinkedList::new));
-        listeners.add(new WeakReference<>(listener));
-        this.listeners = listeners;
+        WeakReference<?>[] listeners = this.listeners;
+        WeakReference<?>[] newListeners = new WeakReference<?>[listeners.length + 1];
+        int size = 0;
+        for (WeakReference<?> listenerReference : listeners) {
+            if (listenerReference.get() != null) {
+                newListeners[size++] = listenerReference;
+            }
+        }
+        newListeners[size++] = new WeakReference<>(listener);
+        this.listeners = size == newListeners.length ? newListeners : Arrays.copyOf(newListeners, size);
     }
 
-    public synchronized void invoke(A args) {
-        if (listeners != null) {
-            Iterator<WeakReference<IEventListener<A>>> iterator = listeners.iterator();
-            while (iterator.hasNext()) {
-                WeakReference<IEventListener<A>> listenerReference = iterator.next();
-                if (listenerReference.get() != null) {
-                    listenerReference.get().invoke(args);
-                } else {
-                    iterator.remove();
-                }
+    @SuppressWarnings("unchecked")
+    public void invoke(A args) {
+        for (WeakReference<?> listenerReference : listeners) {
+            IEventListener<A> listener = (IEventListener<A>) listenerReference.get();
+            if (listener != null) {
+                listener.invoke(args);
             }
         }
     }
@@ -0,0 +1,13 @@
+package synfron.reshaper.burp.core.exceptions;
+
+import lombok.Getter;
+
+public class RegexTimeoutException extends RuntimeException {
+    @Getter
+    private final String pattern;
+
+    public RegexTimeoutException(String pattern, long timeLimit) {
+        super(String.format("Regex '%s' exceeded the time limit of %s ms", pattern, timeLimit));
+        this.pattern = pattern;
+    }
+}
@@ -0,0 +1,130 @@
+package synfron.reshaper.burp.core.messages;
+
+import com.jayway.jsonpath.DocumentContext;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.apache.http.NameValuePair;
+import org.apache.http.client.utils.URLEncodedUtils;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import synfron.reshaper.burp.core.utils.JsonPathStreamer;
+import synfron.reshaper.burp.core.utils.TextUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+public class DocumentCache {
+    private static final int MaxDocuments = 8;
+    private static final int StreamingThreshold = 16 * 1024;
+
+    private Map<Key, Object> documents;
+
+    public synchronized String getJsonPathValue(String text, String jsonPath) {
+        Object value = streamJsonPath(text, jsonPath);
+        return value != JsonPathStreamer.Unsupported ?
+                TextUtils.toJsonPathValue(value) :
+                TextUtils.getJsonPathValue(getJson(text), jsonPath);
+    }
+
+    public synchronized List<String> getJsonPathValues(String text, String jsonPath) {
+        Object value = streamJsonPath(text, jsonPath);
+        return value != JsonPathStreamer.Unsupported ?
+                TextUtils.toJsonPathValues(value) :
+                TextUtils.getJsonPathValues(getJson(text), jsonPath);
+    }
+
+    private Object streamJsonPath(String text, String jsonPath) {
+        if (text == null || text.length() < StreamingThreshold || (documents != null && documents.containsKey(new Key(DocumentType.Json, text)))) {
+            return JsonPathStreamer.Unsupported;
+        }
+        return JsonPathStreamer.read(text, jsonPath);
+    }
+
+    public synchronized String setJsonPathValue(String text, String jsonPath, String value) {
+        DocumentContext document = getJson(text);
+        documents.remove(new Key(DocumentType.Json, text));
+        String json = TextUtils.setJsonPathValue(document, jsonPath, value);
+        documents.put(new Key(DocumentType.Json, json), document);
+        return TextUtils.stripQuotes(json);
+    }
+
+    public synchronized String getCssSelectorValue(String text, String selector) {
+        return TextUtils.getCssSelectorValue(getHtml(text), selector);
+    }
+
+    public synchronized List<String> getCssSelectorValues(String text, String selector) {
+        return TextUtils.getCssSelectorValues(getHtml(text), selector);
+    }
+
+    public synchronized List<String> getXPathValues(String text, String xpath) {
+        return TextUtils.getXPathValues(getHtml(text), xpath);
+    }
+
+    public synchronized String setCssSelectorValue(String text, String selector, String value) {
+        Document document = getHtml(text);
+        documents.remove(new Key(DocumentType.Html, text));
+        return TextUtils.setCssSelectorValue(document, selector, value);
+    }
+
+    public synchronized String getParamValue(String text, String name) {
+        return TextUtils.getParamValue(getParams(text), name);
+    }
+
+    public synchronized String setParamValue(String text, String name, String value) {
+        List<NameValuePair> params = TextUtils.setParamValue(getParams(text), name, value);
+        String formattedParams = URLEncodedUtils.format(params, StandardCharsets.UTF_8);
+        documents.put(new Key(DocumentType.Params, formattedParams), params);
+        return formattedParams;
+    }
+
+    public synchronized void clear() {
+        documents = null;
+    }
+
+    private DocumentContext getJson(String text) {
+        return get(DocumentType.Json, text, TextUtils::parseJson);
+    }
+
+    private Document getHtml(String text) {
+        return get(DocumentType.Html, text, Jsoup::parse);
+    }
+
+    private List<NameValuePair> getParams(String text) {
+        return get(DocumentType.Params, text, TextUtils::parseParams);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(DocumentType type, String text, Function<String, T> parser) {
+        if (documents == null) {
+            documents = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+                    return size() > MaxDocuments;
+                }
+            };
+        }
+        Key key = new Key(type, text);
+        T document = (T) documents.get(key);
+        if (document == null) {
+            document = parser.apply(text);
+            documents.put(key, document);
+        }
+        return document;
+    }
+
+    private enum DocumentType {
+        Json,
+        Html,
+        Params
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class Key {
+        private final DocumentType type;
+        private final String text;
+    }
+}
@@ -1,11 +1,11 @@
 package synfron.reshaper.burp.core.messages;
 
-import burp.BurpExtender;
 import ir.ac.iust.htmlchardet.HTMLCharsetDetector;
 import lombok.Getter;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.util.CharsetUtils;
+import synfron.reshaper.burp.core.utils.Latin1Codec;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -85,6 +85,53 @@ public class Encoder {
         return decoded;
     }
 
+    public boolean isLatin1() {
+        return useDefault || (!useAutoDetect && StandardCharsets.ISO_8859_1.equals(charset));
+    }
+
+    public byte[] encodeExact(String text) {
+        if (useAutoDetect || text == null) {
+            return null;
+        }
+        Charset target = useDefault ? StandardCharsets.ISO_8859_1 : charset;
+        boolean exact;
+        if (StandardCharsets.ISO_8859_1.equals(target)) {
+            exact = isInRange(text, 0xFF);
+        } else if (StandardCharsets.US_ASCII.equals(target)) {
+            exact = isInRange(text, 0x7F);
+        } else if (StandardCharsets.UTF_8.equals(target)) {
+            exact = isWellFormed(text);
+        } else {
+            exact = false;
+        }
+        return exact ? text.getBytes(target) : null;
+    }
+
+    private static boolean isInRange(String text, int maxChar) {
+        for (int index = 0; index < text.length(); index++) {
+            if (text.charAt(index) > maxChar) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWellFormed(String text) {
+        for (int index = 0; index < text.length(); index++) {
+            char c = text.charAt(index);
+            if (c == '\uFFFD') {
+                return false;
+            } else if (Character.isHighSurrogate(c)) {
+                if (++index >= text.length() || !Character.isLowSurrogate(text.charAt(index))) {
+                    return false;
+                }
+            } else if (Character.isLowSurrogate(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private byte[] encode(String text, Charset primaryEncoding, Charset secondaryEncoding) {
         text = StringUtils.defaultString(text);
         try {
@@ -104,11 +151,11 @@ public class Encoder {
     }
 
     private byte[] defaultEncode(String text) {
-        return BurpExtender.getApi().utilities().byteUtils().convertFromString(StringUtils.defaultString(text));
+        return Latin1Codec.encode(text);
     }
 
     private String defaultDecode(byte[] data) {
-        return BurpExtender.getApi().utilities().byteUtils().convertToString(ObjectUtils.defaultIfNull(data, new byte[0]));
+        return Latin1Codec.decode(data);
     }
 
     private String autoDetectDecode(byte[] data) {
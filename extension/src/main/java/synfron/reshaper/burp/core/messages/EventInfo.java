@@ -9,13 +9,20 @@ import synfron.reshaper.burp.core.BurpTool;
 import synfron.reshaper.burp.core.InterceptResponse;
 import synfron.reshaper.burp.core.ProtocolType;
 import synfron.reshaper.burp.core.messages.entities.http.HttpRequestMessage;
+import synfron.reshaper.burp.core.metrics.EventMetrics;
 import synfron.reshaper.burp.core.rules.diagnostics.Diagnostics;
 import synfron.reshaper.burp.core.rules.diagnostics.IDiagnostics;
 import synfron.reshaper.burp.core.settings.Workspace;
+import synfron.reshaper.burp.core.utils.AhoCorasick;
+import synfron.reshaper.burp.core.utils.Log;
+import synfron.reshaper.burp.core.utils.RegexEngine;
 import synfron.reshaper.burp.core.utils.UrlUtils;
 import synfron.reshaper.burp.core.vars.Variables;
 
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 public abstract class EventInfo {
     @Getter
@@ -47,13 +54,27 @@ public abstract class EventInfo {
     @Getter
     protected final Encoder encoder;
     protected boolean changed;
+    protected boolean changesDiscarded;
+    private final long deadline;
+    private boolean overBudget;
+    @Getter
+    private boolean budgetSkipped;
+    @Getter @Setter
+    private RegexEngine ruleRegexEngine = RegexEngine.Default;
     @Getter
     protected final IDiagnostics diagnostics;
+    @Getter
+    private final EventMetrics eventMetrics;
+    @Getter
+    private final DocumentCache documentCache = new DocumentCache();
+    private Map<AhoCorasick, AhoCorasick.Matches> literalMatches;
 
     public EventInfo(Workspace workspace, BurpTool burpTool, HttpRequest httpRequest, Annotations annotations, Variables sessionVariables) {
         this.workspace = workspace;
         encoder = new Encoder(workspace.getGeneralSettings().getDefaultEncoding());
         diagnostics = new Diagnostics(workspace);
+        eventMetrics = EventMetrics.get(workspace.getMetrics());
+        deadline = getDeadline(workspace.getGeneralSettings().getEventTimeBudget());
         this.sessionVariables = sessionVariables;
         this.burpTool = burpTool;
         this.initialHttpRequest = httpRequest;
@@ -67,6 +88,8 @@ public abstract class EventInfo {
         this.workspace = sourceEventInfo.workspace;
         encoder = new Encoder(workspace.getGeneralSettings().getDefaultEncoding());
         diagnostics = new Diagnostics(workspace);
+        eventMetrics = EventMetrics.get(workspace.getMetrics());
+        deadline = sourceEventInfo.deadline;
         this.sessionVariables = sourceEventInfo.getSessionVariables();
         this.burpTool = sourceEventInfo.getBurpTool();
         this.initialHttpRequest = null;
@@ -91,8 +114,72 @@ public abstract class EventInfo {
     }
 
     public boolean isChanged() {
-        return changed ||
-                (httpRequestMessage != null && httpRequestMessage.isChanged());
+        return !changesDiscarded && (changed ||
+                (httpRequestMessage != null && httpRequestMessage.isChanged()));
+    }
+
+    public void discardChanges() {
+        changesDiscarded = true;
+    }
+
+    private static long getDeadline(int timeBudget) {
+        return timeBudget > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudget) : 0;
+    }
+
+    public boolean isOverBudget() {
+        if (!overBudget && deadline != 0 && System.nanoTime() - deadline > 0) {
+            overBudget = true;
+        }
+        return overBudget;
+    }
+
+    public boolean skipIfOverBudget() {
+        if (isOverBudget()) {
+            budgetSkipped = true;
+        }
+        return overBudget;
+    }
+
+    public void handleBudgetOverrun() {
+        if (budgetSkipped) {
+            workspace.getMetrics().recordBudgetOverrun();
+            boolean discardChanges = workspace.getGeneralSettings().isForwardUnmodifiedOnBudgetOverrun();
+            if (discardChanges) {
+                discardChanges();
+            }
+            Log.get(workspace).withMessage(String.format(
+                    "Event exceeded the time budget of %s ms. Remaining rules were skipped%s.",
+                    workspace.getGeneralSettings().getEventTimeBudget(),
+                    discardChanges ? " and the message was forwarded unmodified" : ""
+            )).log();
+        }
+    }
+
+    public long getBudgetedMillis(long millis) {
+        if (deadline == 0) {
+            return millis;
+        }
+        return Math.max(0, Math.min(millis, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+    }
+
+    public AhoCorasick.Matches getLiteralMatches(AhoCorasick matcher, CharSequence text) {
+        if (literalMatches == null) {
+            literalMatches = new IdentityHashMap<>();
+        }
+        AhoCorasick.Matches matches = literalMatches.get(matcher);
+        if (matches == null || matches.getText() != text) {
+            matches = matcher.getMatches(text);
+            literalMatches.put(matcher, matches);
+        }
+        return matches;
+    }
+
+    public RegexEngine getRegexEngine() {
+        return ruleRegexEngine != RegexEngine.Default ? ruleRegexEngine : workspace.getGeneralSettings().getRegexEngine();
+    }
+
+    public int getRegexTimeLimit() {
+        return workspace.getGeneralSettings().getRegexTimeLimit();
     }
 
     public abstract boolean isSecure();
@@ -1,7 +1,6 @@
 package synfron.reshaper.burp.core.messages;
 
 import burp.api.montoya.core.Annotations;
-import burp.api.montoya.core.ByteArray;
 import burp.api.montoya.http.HttpService;
 import burp.api.montoya.http.message.requests.HttpRequest;
 import burp.api.montoya.http.message.responses.HttpResponse;
@@ -104,7 +103,7 @@ public class HttpEventInfo extends EventInfo {
     @Override
     public boolean isChanged() {
         return super.isChanged() ||
-                (httpResponseMessage != null && httpResponseMessage.isChanged());
+                (!changesDiscarded && httpResponseMessage != null && httpResponseMessage.isChanged());
     }
 
     public boolean isRequestChanged() {
@@ -137,7 +136,7 @@ public class HttpEventInfo extends EventInfo {
 
     public HttpResponse asHttpResponse() {
         return isChanged() || initialHttpResponse == null ?
-                HttpResponse.httpResponse(ByteArray.byteArray(httpResponseMessage.getValue())) :
+                httpResponseMessage.asAdjustedHttpResponse() :
                 initialHttpResponse;
     }
 
@@ -1,6 +1,7 @@
 package synfron.reshaper.burp.core.messages;
 
 import org.apache.commons.lang3.StringUtils;
+import synfron.reshaper.burp.core.messages.entities.http.HttpBody;
 import synfron.reshaper.burp.core.messages.entities.http.HttpRequestMessage;
 import synfron.reshaper.burp.core.messages.entities.http.HttpResponseMessage;
 import synfron.reshaper.burp.core.rules.GetItemPlacement;
@@ -36,6 +37,14 @@ public class MessageValueHandler {
         return StringUtils.defaultString(value);
     }
 
+    public static HttpBody getBody(EventInfo eventInfo, MessageValue messageValue) {
+        return switch (messageValue) {
+            case HttpRequestBody -> eventInfo.getHttpRequestMessage().getBody();
+            case HttpResponseBody -> ((HttpEventInfo)eventInfo).getHttpResponseMessage().getBody();
+            default -> null;
+        };
+    }
+
     public static String getRequestValue(EventInfo eventInfo, HttpRequestMessage requestMessage, MessageValue messageValue, VariableString identifier, GetItemPlacement itemPlacement) {
         return switch (messageValue) {
             case HttpRequestHeaders -> requestMessage.getHeaders().getText();
@@ -20,6 +20,7 @@ public class WebSocketEventInfo<T> extends EventInfo {
     private final WebSocketMessageSender messageSender;
     @Getter
     private T data;
+    private final T initialData;
 
     public WebSocketEventInfo(Workspace workspace, WebSocketMessageType messageType, WebSocketDataDirection dataDirection, BurpTool burpTool, WebSocketMessageSender messageSender, HttpRequest httpRequest, Annotations annotations, T data, Variables sessionVariables) {
         super(workspace, burpTool, httpRequest, annotations, sessionVariables);
@@ -29,6 +30,7 @@ public class WebSocketEventInfo<T> extends EventInfo {
         this.httpProtocol = httpRequest.httpService().secure() ? "wss" : "ws";
         this.messageSender = messageSender;
         this.data = data;
+        this.initialData = data;
     }
 
     public void setDataDirection(WebSocketDataDirection dataDirection) {
@@ -36,6 +38,13 @@ public class WebSocketEventInfo<T> extends EventInfo {
         changed = true;
     }
 
+    @Override
+    public void discardChanges() {
+        super.discardChanges();
+        data = initialData;
+        dataDirection = initialDataDirection;
+    }
+
     @SuppressWarnings("unchecked")
     public void setText(String text) {
         if (data instanceof String) {
@@ -0,0 +1,167 @@
+package synfron.reshaper.burp.core.messages.entities.http;
+
+import synfron.reshaper.burp.core.utils.Latin1Codec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class HeaderIndex {
+    private static final int Stride = 3;
+
+    private final byte[] data;
+    private final int[] offsets;
+    private final int[] buckets;
+    private final int[] nextLines;
+    private final int count;
+
+    private HeaderIndex(byte[] data, int[] offsets, int count) {
+        this.data = data;
+        this.offsets = offsets;
+        this.count = count;
+        this.buckets = new int[Integer.highestOneBit(Math.max(count, 1) * 2 - 1) << 1];
+        this.nextLines = new int[count];
+        Arrays.fill(buckets, -1);
+        for (int line = count - 1; line >= 0; line--) {
+            int bucket = hash(line) & (buckets.length - 1);
+            nextLines[line] = buckets[bucket];
+            buckets[bucket] = line;
+        }
+    }
+
+    public static HeaderIndex parse(byte[] data, int fromIndex, int toIndex) {
+        int[] offsets = new int[Stride * 16];
+        int count = 0;
+        int lineStart = getNextLineStart(data, fromIndex, toIndex);
+        while (lineStart < toIndex) {
+            int lineEnd = lineStart;
+            while (lineEnd < toIndex && data[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            int nextLineStart = lineEnd + 1;
+            if (lineEnd > lineStart && data[lineEnd - 1] == '\r') {
+                lineEnd--;
+            }
+            if (lineEnd == lineStart) {
+                break;
+            }
+            int nameEnd = lineStart;
+            while (nameEnd < lineEnd && data[nameEnd] != ':') {
+                nameEnd++;
+            }
+            if ((count + 1) * Stride > offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[count * Stride] = lineStart;
+            offsets[count * Stride + 1] = nameEnd;
+            offsets[count * Stride + 2] = lineEnd;
+            count++;
+            lineStart = nextLineStart;
+        }
+        return new HeaderIndex(data, offsets, count);
+    }
+
+    private static int getNextLineStart(byte[] data, int fromIndex, int toIndex) {
+        for (int index = fromIndex; index < toIndex; index++) {
+            if (data[index] == '\n') {
+                return index + 1;
+            }
+        }
+        return toIndex;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public String getName(int line) {
+        int lineStart = offsets[line * Stride];
+        return Latin1Codec.decode(data, lineStart, offsets[line * Stride + 1] - lineStart);
+    }
+
+    public String getValue(int line) {
+        int valueStart = offsets[line * Stride + 1] + 1;
+        int valueEnd = offsets[line * Stride + 2];
+        while (valueStart < valueEnd && (data[valueStart] & 0xFF) <= ' ') {
+            valueStart++;
+        }
+        while (valueEnd > valueStart && (data[valueEnd - 1] & 0xFF) <= ' ') {
+            valueEnd--;
+        }
+        return valueStart < valueEnd ? Latin1Codec.decode(data, valueStart, valueEnd - valueStart) : "";
+    }
+
+    public String getLine(int line) {
+        int lineStart = offsets[line * Stride];
+        return Latin1Codec.decode(data, lineStart, offsets[line * Stride + 2] - lineStart);
+    }
+
+    int getNameEnd(int line) {
+        return offsets[line * Stride + 1];
+    }
+
+    int getLineEnd(int line) {
+        return offsets[line * Stride + 2];
+    }
+
+    public List<String> getLines() {
+        List<String> lines = new ArrayList<>(count);
+        for (int line = 0; line < count; line++) {
+            lines.add(getLine(line));
+        }
+        return lines;
+    }
+
+    public boolean contains(String name) {
+        return indexOf(name, false) >= 0;
+    }
+
+    public int indexOf(String name, boolean last) {
+        int found = -1;
+        for (int line = buckets[hash(name) & (buckets.length - 1)]; line >= 0; line = nextLines[line]) {
+            if (isName(line, name)) {
+                if (!last) {
+                    return line;
+                }
+                found = line;
+            }
+        }
+        return found;
+    }
+
+    public boolean isName(int line, String name) {
+        int lineStart = offsets[line * Stride];
+        int nameLength = offsets[line * Stride + 1] - lineStart;
+        if (nameLength != name.length()) {
+            return false;
+        }
+        for (int index = 0; index < nameLength; index++) {
+            if (fold((char) (data[lineStart + index] & 0xFF)) != fold(name.charAt(index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int hash(int line) {
+        int hash = 0;
+        for (int index = offsets[line * Stride], end = offsets[line * Stride + 1]; index < end; index++) {
+            hash = 31 * hash + fold((char) (data[index] & 0xFF));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int hash(String name) {
+        int hash = 0;
+        for (int index = 0; index < name.length(); index++) {
+            hash = 31 * hash + fold(name.charAt(index));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static char fold(char c) {
+        return c < 0x80 ?
+                (c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c) :
+                Character.toLowerCase(Character.toUpperCase(c));
+    }
+}
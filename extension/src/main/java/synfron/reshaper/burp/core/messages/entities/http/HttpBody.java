@@ -1,11 +1,15 @@
 package synfron.reshaper.burp.core.messages.entities.http;
 
+import lombok.Getter;
 import synfron.reshaper.burp.core.messages.Encoder;
+import synfron.reshaper.burp.core.utils.Latin1CharSequence;
 
 public class HttpBody extends HttpEntity {
 
     private String text;
+    private CharSequence latin1Text;
     private final byte[] rawBytes;
+    @Getter
     private final Encoder encoder;
 
     public HttpBody(byte[] rawBytes, Encoder encoder) {
@@ -28,6 +32,17 @@ public class HttpBody extends HttpEntity {
         return text;
     }
 
+    public boolean isDecoded() {
+        return text != null;
+    }
+
+    public CharSequence getLatin1Text() {
+        if (latin1Text == null && encoder.isLatin1()) {
+            latin1Text = new Latin1CharSequence(rawBytes);
+        }
+        return latin1Text;
+    }
+
     @Override
     public boolean isChanged() {
         return false;
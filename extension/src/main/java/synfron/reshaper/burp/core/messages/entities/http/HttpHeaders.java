@@ -7,32 +7,74 @@ import synfron.reshaper.burp.core.rules.SetItemPlacement;
 import synfron.reshaper.burp.core.utils.*;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public abstract class HttpHeaders extends HttpEntity {
     protected final List<String> headerLines;
+    protected final HeaderIndex headerIndex;
     protected ListMap<CaseInsensitiveString, IValue<String>> headers;
     protected final String cookieHeaderName;
     protected boolean changed;
 
     public HttpHeaders(List<String> headerLines, String cookieHeaderName) {
         this.headerLines = headerLines;
+        this.headerIndex = null;
+        this.cookieHeaderName = cookieHeaderName;
+    }
+
+    public HttpHeaders(HeaderIndex headerIndex, String cookieHeaderName) {
+        this.headerLines = null;
+        this.headerIndex = headerIndex;
         this.cookieHeaderName = cookieHeaderName;
     }
 
     public String getHeader(String name, GetItemPlacement itemPlacement) {
-        IValue<String> value = getHeaders().get(new CaseInsensitiveString(name), itemPlacement);
+        IValue<String> value = getHeaderItem(name, itemPlacement);
         return value != null ? value.getValue() : null;
     }
 
+    protected IValue<String> getHeaderItem(String name, GetItemPlacement itemPlacement) {
+        if (isIndexed()) {
+            int line = headerIndex.indexOf(name, itemPlacement == GetItemPlacement.Last);
+            return line >= 0 ? createItem(name, headerIndex.getValue(line)) : null;
+        }
+        return getHeaders().get(new CaseInsensitiveString(name), itemPlacement);
+    }
+
+    protected List<IValue<String>> getHeaderItems(String name) {
+        if (isIndexed()) {
+            List<IValue<String>> items = new ArrayList<>();
+            for (int line = 0; line < headerIndex.size(); line++) {
+                if (headerIndex.isName(line, name)) {
+                    items.add(createItem(name, headerIndex.getValue(line)));
+                }
+            }
+            return items;
+        }
+        return getHeaders().getAll(new CaseInsensitiveString(name));
+    }
+
+    private boolean isIndexed() {
+        return headers == null && headerIndex != null;
+    }
+
+    private IValue<String> createItem(String name, String value) {
+        return name.equalsIgnoreCase(cookieHeaderName) ? createCookie(value) : new Value<>(value);
+    }
+
     public boolean contains(String name)
     {
+        if (isIndexed()) {
+            return headerIndex.contains(name);
+        }
         return getCount() > 0 && getHeaders().containsKey(new CaseInsensitiveString(name));
     }
 
     public int getCount() {
-        return !isChanged() ? headerLines.size() : getHeaders().size();
+        return !isChanged() ? (headerIndex != null ? headerIndex.size() : headerLines.size()) : getHeaders().size();
     }
 
     public void setHeader(String name, String value, SetItemPlacement itemPlacement) {
@@ -59,11 +101,24 @@ public abstract class HttpHeaders extends HttpEntity {
     public abstract IValue<String> createCookie(String value);
 
     public List<String> getHeaderNames() {
+        if (isIndexed()) {
+            Set<CaseInsensitiveString> names = new LinkedHashSet<>();
+            for (int line = 0; line < headerIndex.size(); line++) {
+                names.add(new CaseInsensitiveString(headerIndex.getName(line)));
+            }
+            return names.stream().map(CaseInsensitiveString::toString).sorted().collect(Collectors.toList());
+        }
         return getHeaders().keys().stream().map(CaseInsensitiveString::toString).sorted().collect(Collectors.toList());
     }
 
     protected ListMap<CaseInsensitiveString, IValue<String>> getHeaders() {
-        if (headers == null) {
+        if (headers == null && headerIndex != null) {
+            headers = new ListMap<>();
+            for (int line = 0; line < headerIndex.size(); line++) {
+                String name = headerIndex.getName(line);
+                headers.add(new CaseInsensitiveString(name), createItem(name, headerIndex.getValue(line)));
+            }
+        } else if (headers == null) {
             headers = new ListMap<>();
             for (String headerLine : headerLines) {
                 if (headerLine.length() > 0) {
@@ -87,7 +142,7 @@ public abstract class HttpHeaders extends HttpEntity {
 
     public List<String> getValue() {
         if (!isChanged()) {
-            return CollectionUtils.splitNewLines(this.headerLines);
+            return CollectionUtils.splitNewLines(headerIndex != null ? headerIndex.getLines() : this.headerLines);
         }
 
         List<String> headerLines = new ArrayList<>();
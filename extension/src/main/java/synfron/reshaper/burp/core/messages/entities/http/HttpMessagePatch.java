@@ -0,0 +1,177 @@
+package synfron.reshaper.burp.core.messages.entities.http;
+
+import org.apache.commons.lang3.StringUtils;
+import synfron.reshaper.burp.core.utils.Latin1Codec;
+
+import java.util.List;
+
+public class HttpMessagePatch {
+    private static final byte[] LineBreak = {'\r', '\n'};
+    private static final byte[] HeaderSeparator = {':', ' '};
+    private static final String ContentLengthHeader = "Content-Length";
+    private static final String TransferEncodingHeader = "Transfer-Encoding";
+
+    private final byte[] message;
+    private final int bodyOffset;
+    private String statusLine;
+    private List<String> headers;
+    private byte[] body;
+
+    public HttpMessagePatch() {
+        this(null, -1);
+    }
+
+    public HttpMessagePatch(byte[] message, int bodyOffset) {
+        this.message = message;
+        this.bodyOffset = message != null ? bodyOffset : -1;
+    }
+
+    public boolean hasOriginal() {
+        return bodyOffset >= 0;
+    }
+
+    public HttpMessagePatch withStatusLine(String statusLine) {
+        this.statusLine = StringUtils.defaultString(statusLine);
+        return this;
+    }
+
+    public HttpMessagePatch withHeaders(List<String> headers) {
+        this.headers = headers;
+        return this;
+    }
+
+    public HttpMessagePatch withBody(byte[] body) {
+        this.body = body != null ? body : new byte[0];
+        return this;
+    }
+
+    public byte[] apply() {
+        if (!hasOriginal() && (statusLine == null || headers == null || body == null)) {
+            throw new IllegalStateException("A message without original content must be fully patched");
+        }
+        int bodyLength = body != null ? body.length : message.length - bodyOffset;
+        Patch patch = new Patch(Integer.toString(bodyLength));
+        byte[] buffer = new byte[patch.write(null)];
+        patch.write(buffer);
+        return buffer;
+    }
+
+    private static int put(byte[] buffer, int position, byte[] source, int offset, int length) {
+        if (buffer != null) {
+            System.arraycopy(source, offset, buffer, position, length);
+        }
+        return position + length;
+    }
+
+    private static int put(byte[] buffer, int position, byte[] source) {
+        return put(buffer, position, source, 0, source.length);
+    }
+
+    private static int put(byte[] buffer, int position, String value) {
+        return buffer != null ? Latin1Codec.encode(value, buffer, position) : position + value.length();
+    }
+
+    private static boolean isName(String headerLine, String name) {
+        int nameEnd = headerLine.indexOf(':');
+        return (nameEnd >= 0 ? nameEnd : headerLine.length()) == name.length() && headerLine.regionMatches(true, 0, name, 0, name.length());
+    }
+
+    private class Patch {
+        private final String contentLength;
+        private final String[] headerLines;
+        private final HeaderIndex headerIndex;
+        private final boolean addContentLength;
+
+        private Patch(String contentLength) {
+            this.contentLength = contentLength;
+            if (headers != null) {
+                headerIndex = null;
+                headerLines = new String[headers.size()];
+                boolean hasContentLength = false;
+                boolean hasTransferEncoding = false;
+                for (int line = 0; line < headers.size(); line++) {
+                    String header = headers.get(line);
+                    if (isName(header, ContentLengthHeader)) {
+                        hasContentLength = true;
+                        header = header.substring(0, ContentLengthHeader.length()) + ": " + contentLength;
+                    } else if (isName(header, TransferEncodingHeader)) {
+                        hasTransferEncoding = true;
+                    }
+                    headerLines[line] = header;
+                }
+                addContentLength = !hasContentLength && !hasTransferEncoding && !contentLength.equals("0");
+            } else {
+                headerIndex = HeaderIndex.parse(message, 0, bodyOffset);
+                headerLines = null;
+                addContentLength = !headerIndex.contains(ContentLengthHeader) && !headerIndex.contains(TransferEncodingHeader) && !contentLength.equals("0");
+            }
+        }
+
+        private int write(byte[] buffer) {
+            int position = writeStatusLine(buffer, 0);
+            position = headerLines != null ? writeHeaders(buffer, position) : writeOriginalHeaders(buffer, position);
+            return body != null ?
+                    put(buffer, position, body) :
+                    put(buffer, position, message, bodyOffset, message.length - bodyOffset);
+        }
+
+        private int writeStatusLine(byte[] buffer, int position) {
+            if (statusLine == null) {
+                return put(buffer, position, message, 0, getStatusLineEnd());
+            }
+            if (!statusLine.isEmpty()) {
+                position = put(buffer, position, statusLine);
+                position = put(buffer, position, LineBreak);
+            } else if (headerLines != null && headerLines.length == 0 && !addContentLength) {
+                position = put(buffer, position, LineBreak);
+            }
+            return position;
+        }
+
+        private int writeHeaders(byte[] buffer, int position) {
+            for (String header : headerLines) {
+                position = put(buffer, position, header);
+                position = put(buffer, position, LineBreak);
+            }
+            if (addContentLength) {
+                position = writeContentLength(buffer, position);
+            }
+            return put(buffer, position, LineBreak);
+        }
+
+        private int writeOriginalHeaders(byte[] buffer, int position) {
+            int copyStart = getStatusLineEnd();
+            for (int line = 0; line < headerIndex.size(); line++) {
+                if (headerIndex.isName(line, ContentLengthHeader) && !headerIndex.getValue(line).equals(contentLength)) {
+                    position = put(buffer, position, message, copyStart, headerIndex.getNameEnd(line) - copyStart);
+                    position = put(buffer, position, HeaderSeparator);
+                    position = put(buffer, position, contentLength);
+                    copyStart = headerIndex.getLineEnd(line);
+                }
+            }
+            int terminatorStart = bodyOffset - LineBreak.length;
+            if (addContentLength) {
+                position = put(buffer, position, message, copyStart, terminatorStart - copyStart);
+                position = writeContentLength(buffer, position);
+                copyStart = terminatorStart;
+            }
+            return put(buffer, position, message, copyStart, bodyOffset - copyStart);
+        }
+
+        private int writeContentLength(byte[] buffer, int position) {
+            position = put(buffer, position, ContentLengthHeader);
+            position = put(buffer, position, HeaderSeparator);
+            position = put(buffer, position, contentLength);
+            return put(buffer, position, LineBreak);
+        }
+
+        private int getStatusLineEnd() {
+            for (int index = 0; index < bodyOffset; index++) {
+                if (message[index] == '\n') {
+                    return index + 1;
+                }
+            }
+            return bodyOffset;
+        }
+    }
+}
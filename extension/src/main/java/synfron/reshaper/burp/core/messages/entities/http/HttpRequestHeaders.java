@@ -12,9 +12,13 @@ public class HttpRequestHeaders extends HttpHeaders {
         super(headerLines, "Cookie");
     }
 
+    public HttpRequestHeaders(HeaderIndex headerIndex) {
+        super(headerIndex, "Cookie");
+    }
+
     @Override
     public String getCookie(String cookieName, GetItemPlacement itemPlacement) {
-        HttpRequestCookies cookies = (HttpRequestCookies)getHeaders().get(new CaseInsensitiveString(cookieHeaderName), GetItemPlacement.Last);
+        HttpRequestCookies cookies = (HttpRequestCookies)getHeaderItem(cookieHeaderName, GetItemPlacement.Last);
         if (cookies != null) {
             return cookies.getCookie(cookieName, itemPlacement);
         }
@@ -44,7 +48,7 @@ public class HttpRequestHeaders extends HttpHeaders {
 
     @Override
     public List<String> getCookiesNames() {
-        HttpRequestCookies cookies = (HttpRequestCookies)getHeaders().get(new CaseInsensitiveString(cookieHeaderName), GetItemPlacement.Last);
+        HttpRequestCookies cookies = (HttpRequestCookies)getHeaderItem(cookieHeaderName, GetItemPlacement.Last);
         if (cookies != null) {
             return cookies.getCookiesNames();
         }
@@ -53,7 +57,7 @@ public class HttpRequestHeaders extends HttpHeaders {
 
     @Override
     public boolean containsCookie(String cookieName) {
-        HttpRequestCookies cookies = (HttpRequestCookies)getHeaders().get(new CaseInsensitiveString(cookieHeaderName), GetItemPlacement.Last);
+        HttpRequestCookies cookies = (HttpRequestCookies)getHeaderItem(cookieHeaderName, GetItemPlacement.Last);
         return cookies != null && cookies.contains(cookieName);
     }
 
@@ -1,15 +1,14 @@
 package synfron.reshaper.burp.core.messages.entities.http;
 
 import burp.api.montoya.core.ByteArray;
-import burp.api.montoya.http.message.HttpHeader;
 import burp.api.montoya.http.message.requests.HttpRequest;
 import org.apache.commons.lang3.StringUtils;
 import synfron.reshaper.burp.core.messages.ContentType;
 import synfron.reshaper.burp.core.messages.Encoder;
 import synfron.reshaper.burp.core.rules.SetItemPlacement;
 import synfron.reshaper.burp.core.settings.Workspace;
+import synfron.reshaper.burp.core.utils.ByteSearch;
 import synfron.reshaper.burp.core.utils.Log;
-import synfron.reshaper.burp.core.utils.ObjectUtils;
 import synfron.reshaper.burp.core.utils.Url;
 
 import java.util.Arrays;
@@ -21,31 +20,43 @@ public class HttpRequestMessage extends HttpEntity {
     private HttpRequest httpRequest;
     private final byte[] request;
     private final Encoder encoder;
-    private boolean changed;
+    private boolean statusLineReplaced;
+    private boolean headersReplaced;
+    private boolean bodyReplaced;
     private HttpRequestStatusLine statusLine;
     private HttpHeaders headers;
     private HttpBody body;
+    private ContentType contentType;
     private boolean initialized;
 
     public HttpRequestMessage(Workspace workspace, HttpRequest httpRequest, Encoder encoder) {
         this.workspace = workspace;
         this.httpRequest = httpRequest;
-        this.request = httpRequest != null ? httpRequest.toByteArray().getBytes() : new byte[0];
+        this.request = httpRequest != null ? null : new byte[0];
         this.encoder = encoder;
     }
 
     public HttpRequestMessage(Workspace workspace, byte[] request, Encoder encoder) {
         this.workspace = workspace;
-        this.request = request;
+        this.request = request != null ? request : new byte[0];
         this.encoder = encoder;
     }
 
     @Override
     public boolean isChanged() {
-        return changed ||
-                (statusLine != null && statusLine.isChanged()) ||
-                (headers != null && headers.isChanged()) ||
-                (body != null && body.isChanged());
+        return isStatusLineChanged() || isHeadersChanged() || isBodyChanged();
+    }
+
+    private boolean isStatusLineChanged() {
+        return statusLineReplaced || (statusLine != null && statusLine.isChanged());
+    }
+
+    private boolean isHeadersChanged() {
+        return headersReplaced || (headers != null && headers.isChanged());
+    }
+
+    private boolean isBodyChanged() {
+        return bodyReplaced || (body != null && body.isChanged());
     }
 
     private void initialize() {
@@ -54,7 +65,7 @@ public class HttpRequestMessage extends HttpEntity {
                 sanityCheckHeaders();
                 httpRequest = HttpRequest.httpRequest(ByteArray.byteArray(request));
             }
-            if (!encoder.isUseDefault() && encoder.isAutoSet() && !getContentType().isTextBased()) {
+            if (!encoder.isUseDefault() && encoder.isAutoSet() && !getInitialContentType().isTextBased()) {
                 encoder.setEncoding("default", true);
             }
             initialized = true;
@@ -75,9 +86,16 @@ public class HttpRequestMessage extends HttpEntity {
         }
     }
 
+    private ContentType getInitialContentType() {
+        if (contentType == null) {
+            contentType = ContentType.get(httpRequest.contentType());
+        }
+        return contentType;
+    }
+
     public ContentType getContentType() {
         initialize();
-        return ContentType.get(httpRequest.contentType());
+        return getInitialContentType();
     }
 
     public HttpRequestStatusLine getStatusLine() {
@@ -90,17 +108,25 @@ public class HttpRequestMessage extends HttpEntity {
 
     public void setStatusLine(String statusLine) {
         this.statusLine = new HttpRequestStatusLine(statusLine);
-        changed = true;
+        statusLineReplaced = true;
     }
 
     public HttpHeaders getHeaders() {
         if (headers == null) {
             initialize();
-            headers = new HttpRequestHeaders(httpRequest.headers().stream().map(HttpHeader::toString).collect(Collectors.toList()));
+            headers = new HttpRequestHeaders(getHeaderIndex());
         }
         return headers;
     }
 
+    private HeaderIndex getHeaderIndex() {
+        if (request != null) {
+            return HeaderIndex.parse(request, 0, request.length);
+        }
+        int bodyOffset = httpRequest.bodyOffset();
+        return HeaderIndex.parse(httpRequest.toByteArray().subArray(0, bodyOffset).getBytes(), 0, bodyOffset);
+    }
+
     public void setHeaders(String headers) {
         this.headers = new HttpRequestHeaders(
                 Arrays.stream(
@@ -109,13 +135,14 @@ public class HttpRequestMessage extends HttpEntity {
                         .filter(StringUtils::isNotEmpty).collect(Collectors.toList()
                     )
         );
-        changed = true;
+        headersReplaced = true;
     }
 
     public HttpBody getBody() {
         if (this.body == null) {
             initialize();
-            byte[] body = httpRequest.body().getBytes();
+            int bodyOffset = request != null ? ByteSearch.getBodyOffset(request) : -1;
+            byte[] body = bodyOffset >= 0 ? Arrays.copyOfRange(request, bodyOffset, request.length) : httpRequest.body().getBytes();
             this.body = new HttpBody(body, encoder);
         }
         return this.body;
@@ -123,7 +150,7 @@ public class HttpRequestMessage extends HttpEntity {
 
     public void setBody(String body) {
         this.body = new HttpBody(encoder.encode(body), encoder);
-        changed = true;
+        bodyReplaced = true;
     }
 
     public void setUrl(String urlStr) {
@@ -136,21 +163,36 @@ public class HttpRequestMessage extends HttpEntity {
     }
 
     public byte[] getValue() {
-        return asAdjustedHttpRequest().toByteArray().getBytes();
+        return isChanged() ? getPatchedValue() : asAdjustedHttpRequest().toByteArray().getBytes();
     }
 
     public HttpRequest asAdjustedHttpRequest() {
         return !isChanged() ?
-                getAdjustedRequest(request) :
-                getAdjustedRequest(ObjectUtils.asHttpMessage(
-                        getStatusLine().getValue(),
-                        getHeaders().getValue(),
-                        getBody().getValue()
-                ));
+                getAdjustedRequest(httpRequest != null ? httpRequest : HttpRequest.httpRequest(ByteArray.byteArray(request))) :
+                HttpRequest.httpRequest(ByteArray.byteArray(getPatchedValue()));
+    }
+
+    private byte[] getPatchedValue() {
+        byte[] message = request != null ? request : getOriginalValue();
+        HttpMessagePatch patch = new HttpMessagePatch(message, ByteSearch.getBodyOffset(message));
+        if (!patch.hasOriginal() || isStatusLineChanged()) {
+            patch.withStatusLine(getStatusLine().getValue());
+        }
+        if (!patch.hasOriginal() || isHeadersChanged()) {
+            patch.withHeaders(getHeaders().getValue());
+        }
+        if (!patch.hasOriginal() || isBodyChanged()) {
+            patch.withBody(getBody().getValue());
+        }
+        return patch.apply();
+    }
+
+    private byte[] getOriginalValue() {
+        ByteArray message = httpRequest.toByteArray();
+        return (isBodyChanged() ? message.subArray(0, httpRequest.bodyOffset()) : message).getBytes();
     }
 
-    private HttpRequest getAdjustedRequest(byte[] request) {
-        HttpRequest httpRequest = HttpRequest.httpRequest(ByteArray.byteArray(request));
+    private HttpRequest getAdjustedRequest(HttpRequest httpRequest) {
         return httpRequest.withBody(httpRequest.body());
     }
 
@@ -159,6 +201,6 @@ public class HttpRequestMessage extends HttpEntity {
     }
 
     public boolean isSet() {
-        return request.length > 0 || isChanged();
+        return request == null || request.length > 0 || isChanged();
     }
 }
@@ -13,13 +13,21 @@ public class HttpResponseHeaders extends HttpHeaders {
         super(headerLines, "Set-Cookie");
     }
 
+    public HttpResponseHeaders(HeaderIndex headerIndex) {
+        super(headerIndex, "Set-Cookie");
+    }
+
     @Override
     public String getCookie(String cookieName, GetItemPlacement itemPlacement) {
-        HttpResponseCookie cookie = (HttpResponseCookie)getHeaders().getWhere(
-                new CaseInsensitiveString(cookieHeaderName),
-                item -> ((HttpResponseCookie) item).getName().equalsIgnoreCase(cookieName),
-                itemPlacement
-        );
+        HttpResponseCookie cookie = null;
+        for (IValue<String> item : getHeaderItems(cookieHeaderName)) {
+            if (((HttpResponseCookie) item).getName().equalsIgnoreCase(cookieName)) {
+                cookie = (HttpResponseCookie) item;
+                if (itemPlacement == GetItemPlacement.First) {
+                    break;
+                }
+            }
+        }
         return cookie != null ? cookie.getCookieValue() : null;
     }
 
@@ -55,7 +63,7 @@ public class HttpResponseHeaders extends HttpHeaders {
 
     @Override
     public List<String> getCookiesNames() {
-        return getHeaders().getAll(new CaseInsensitiveString(cookieHeaderName)).stream()
+        return getHeaderItems(cookieHeaderName).stream()
                 .map(item -> ((HttpResponseCookie)item).getName())
                 .toList();
     }
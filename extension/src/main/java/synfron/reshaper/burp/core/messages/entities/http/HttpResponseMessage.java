@@ -1,27 +1,27 @@
 package synfron.reshaper.burp.core.messages.entities.http;
 
 import burp.api.montoya.core.ByteArray;
-import burp.api.montoya.http.message.HttpHeader;
 import burp.api.montoya.http.message.responses.HttpResponse;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import synfron.reshaper.burp.core.messages.Encoder;
 import synfron.reshaper.burp.core.messages.MimeType;
 import synfron.reshaper.burp.core.settings.Workspace;
+import synfron.reshaper.burp.core.utils.ByteSearch;
 import synfron.reshaper.burp.core.utils.Log;
 
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
-import static java.util.stream.Collectors.toList;
-
 public class HttpResponseMessage extends HttpEntity {
 
     private HttpResponse httpResponse;
     private final byte[] response;
     private final Encoder encoder;
-    private boolean changed;
+    private boolean statusLineReplaced;
+    private boolean headersReplaced;
+    private boolean bodyReplaced;
     private HttpResponseStatusLine statusLine;
     private HttpHeaders headers;
     private HttpBody body;
@@ -30,23 +30,32 @@ public class HttpResponseMessage extends HttpEntity {
 
     public HttpResponseMessage(Workspace workspace, HttpResponse httpResponse, Encoder encoder) {
         this.httpResponse = httpResponse;
-        this.response = httpResponse != null ? httpResponse.toByteArray().getBytes() : new byte[0];
+        this.response = httpResponse != null ? null : new byte[0];
         this.encoder = encoder;
         this.workspace = workspace;
     }
 
     public HttpResponseMessage(Workspace workspace, byte[] response, Encoder encoder) {
-        this.response = response;
+        this.response = response != null ? response : new byte[0];
         this.encoder = encoder;
         this.workspace = workspace;
     }
 
     @Override
     public boolean isChanged() {
-        return changed ||
-                (statusLine != null && statusLine.isChanged()) ||
-                (headers != null && headers.isChanged()) ||
-                (body != null && body.isChanged());
+        return isStatusLineChanged() || isHeadersChanged() || isBodyChanged();
+    }
+
+    private boolean isStatusLineChanged() {
+        return statusLineReplaced || (statusLine != null && statusLine.isChanged());
+    }
+
+    private boolean isHeadersChanged() {
+        return headersReplaced || (headers != null && headers.isChanged());
+    }
+
+    private boolean isBodyChanged() {
+        return bodyReplaced || (body != null && body.isChanged());
     }
 
     private void initialize() {
@@ -91,17 +100,25 @@ public class HttpResponseMessage extends HttpEntity {
 
     public void setStatusLine(String statusLine) {
         this.statusLine = new HttpResponseStatusLine(statusLine);
-        changed = true;
+        statusLineReplaced = true;
     }
 
     public HttpHeaders getHeaders() {
         if (headers == null) {
             initialize();
-            headers = new HttpResponseHeaders(httpResponse.headers().stream().map(HttpHeader::toString).collect(toList()));
+            headers = new HttpResponseHeaders(getHeaderIndex());
         }
         return headers;
     }
 
+    private HeaderIndex getHeaderIndex() {
+        if (response != null) {
+            return HeaderIndex.parse(response, 0, response.length);
+        }
+        int bodyOffset = httpResponse.bodyOffset();
+        return HeaderIndex.parse(httpResponse.toByteArray().subArray(0, bodyOffset).getBytes(), 0, bodyOffset);
+    }
+
     public void setHeaders(String headers) {
         this.headers = new HttpResponseHeaders(
                 Arrays.stream(
@@ -110,13 +127,14 @@ public class HttpResponseMessage extends HttpEntity {
                         .filter(StringUtils::isNotEmpty).collect(Collectors.toList()
                         )
         );
-        changed = true;
+        headersReplaced = true;
     }
 
     public HttpBody getBody() {
         if (this.body == null) {
             initialize();
-            byte[] body = httpResponse.body().getBytes();
+            int bodyOffset = response != null ? ByteSearch.getBodyOffset(response) : -1;
+            byte[] body = bodyOffset >= 0 ? Arrays.copyOfRange(response, bodyOffset, response.length) : httpResponse.body().getBytes();
             this.body = new HttpBody(body, encoder);
         }
         return this.body;
@@ -124,25 +142,40 @@ public class HttpResponseMessage extends HttpEntity {
 
     public void setBody(String body) {
         this.body = new HttpBody(encoder.encode(body), encoder);
-        changed = true;
+        bodyReplaced = true;
     }
 
     public byte[] getValue() {
-        return asAdjustedHttpResponse().toByteArray().getBytes();
+        return isChanged() ? getPatchedValue() : asAdjustedHttpResponse().toByteArray().getBytes();
     }
 
     public HttpResponse asAdjustedHttpResponse() {
         return !isChanged() ?
-                getAdjustedResponse(response) :
-                getAdjustedResponse(synfron.reshaper.burp.core.utils.ObjectUtils.asHttpMessage(
-                        getStatusLine().getValue(),
-                        getHeaders().getValue(),
-                        getBody().getValue()
-                ));
+                getAdjustedResponse(httpResponse != null ? httpResponse : HttpResponse.httpResponse(ByteArray.byteArray(response))) :
+                HttpResponse.httpResponse(ByteArray.byteArray(getPatchedValue()));
+    }
+
+    private byte[] getPatchedValue() {
+        byte[] message = response != null ? response : getOriginalValue();
+        HttpMessagePatch patch = new HttpMessagePatch(message, ByteSearch.getBodyOffset(message));
+        if (!patch.hasOriginal() || isStatusLineChanged()) {
+            patch.withStatusLine(getStatusLine().getValue());
+        }
+        if (!patch.hasOriginal() || isHeadersChanged()) {
+            patch.withHeaders(getHeaders().getValue());
+        }
+        if (!patch.hasOriginal() || isBodyChanged()) {
+            patch.withBody(getBody().getValue());
+        }
+        return patch.apply();
+    }
+
+    private byte[] getOriginalValue() {
+        ByteArray message = httpResponse.toByteArray();
+        return (isBodyChanged() ? message.subArray(0, httpResponse.bodyOffset()) : message).getBytes();
     }
 
-    private HttpResponse getAdjustedResponse(byte[] response) {
-        HttpResponse httpResponse = HttpResponse.httpResponse(ByteArray.byteArray(response));
+    private HttpResponse getAdjustedResponse(HttpResponse httpResponse) {
         return httpResponse.withBody(httpResponse.body());
     }
 
@@ -151,6 +184,6 @@ public class HttpResponseMessage extends HttpEntity {
     }
 
     public boolean isSet() {
-        return response.length > 0 || isChanged();
+        return response == null || response.length > 0 || isChanged();
     }
 }
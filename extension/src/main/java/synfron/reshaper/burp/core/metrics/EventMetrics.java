@@ -0,0 +1,28 @@
+package synfron.reshaper.burp.core.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import synfron.reshaper.burp.core.rules.IRuleOperation;
+import synfron.reshaper.burp.core.rules.Rule;
+
+public class EventMetrics {
+    private final Metrics metrics;
+    @Getter @Setter
+    private Rule rule;
+
+    private EventMetrics(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public static EventMetrics get(Metrics metrics) {
+        return metrics.isEnabled() ? new EventMetrics(metrics) : null;
+    }
+
+    public void record(Rule rule, long nanos) {
+        metrics.record(rule, nanos);
+    }
+
+    public void record(IRuleOperation<?> operation, long nanos) {
+        metrics.record(rule, operation, nanos);
+    }
+}
@@ -0,0 +1,55 @@
+package synfron.reshaper.burp.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class LatencyHistogram {
+    private static final int SubBucketBits = 3;
+    private static final int SubBucketCount = 1 << SubBucketBits;
+    private static final int BucketCount = (Long.SIZE - SubBucketBits + 1) * SubBucketCount;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BucketCount);
+
+    public void record(long nanos) {
+        buckets.incrementAndGet(getBucketIndex(Math.max(nanos, 0)));
+    }
+
+    public long getPercentile(double percentile) {
+        long total = 0;
+        long[] counts = new long[BucketCount];
+        for (int bucketIndex = 0; bucketIndex < BucketCount; bucketIndex++) {
+            counts[bucketIndex] = buckets.get(bucketIndex);
+            total += counts[bucketIndex];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(total * percentile / 100);
+        long seen = 0;
+        for (int bucketIndex = 0; bucketIndex < BucketCount; bucketIndex++) {
+            seen += counts[bucketIndex];
+            if (seen >= target && counts[bucketIndex] > 0) {
+                return getBucketUpperBound(bucketIndex);
+            }
+        }
+        return getBucketUpperBound(BucketCount - 1);
+    }
+
+    private static int getBucketIndex(long value) {
+        if (value < SubBucketCount) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SubBucketBits)) & (SubBucketCount - 1);
+        return (exponent - SubBucketBits + 1) * SubBucketCount + subBucket;
+    }
+
+    private static long getBucketUpperBound(int bucketIndex) {
+        if (bucketIndex < SubBucketCount) {
+            return bucketIndex;
+        }
+        int exponent = bucketIndex / SubBucketCount + SubBucketBits - 1;
+        long subBucket = bucketIndex % SubBucketCount;
+        long lowerBound = (1L << exponent) | (subBucket << (exponent - SubBucketBits));
+        return lowerBound + (1L << (exponent - SubBucketBits)) - 1;
+    }
+}
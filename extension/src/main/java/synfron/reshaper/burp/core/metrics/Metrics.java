@@ -0,0 +1,82 @@
+package synfron.reshaper.burp.core.metrics;
+
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import synfron.reshaper.burp.core.rules.IRuleOperation;
+import synfron.reshaper.burp.core.rules.Rule;
+import synfron.reshaper.burp.core.rules.thens.Then;
+import synfron.reshaper.burp.core.rules.whens.When;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class Metrics {
+    private static final String RuleOperationName = "(Rule)";
+
+    @Getter
+    private volatile boolean enabled;
+    private final Map<Object, OperationMetrics> operationMetrics = new ConcurrentHashMap<>();
+    private final LongAdder budgetOverruns = new LongAdder();
+    private final LongAdder regexTimeouts = new LongAdder();
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void record(Rule rule, long nanos) {
+        operationMetrics.computeIfAbsent(rule, key -> new OperationMetrics(getRuleName(rule), RuleOperationName))
+                .record(nanos);
+    }
+
+    public void record(Rule rule, IRuleOperation<?> operation, long nanos) {
+        operationMetrics.computeIfAbsent(operation, key -> new OperationMetrics(getRuleName(rule), getOperationName(rule, operation)))
+                .record(nanos);
+    }
+
+    public void recordBudgetOverrun() {
+        budgetOverruns.increment();
+    }
+
+    public long getBudgetOverruns() {
+        return budgetOverruns.sum();
+    }
+
+    public void recordRegexTimeout() {
+        regexTimeouts.increment();
+    }
+
+    public long getRegexTimeouts() {
+        return regexTimeouts.sum();
+    }
+
+    public void reset() {
+        operationMetrics.clear();
+        budgetOverruns.reset();
+        regexTimeouts.reset();
+    }
+
+    public List<MetricsSnapshot> getSnapshots() {
+        return operationMetrics.values().stream()
+                .map(OperationMetrics::getSnapshot)
+                .sorted(Comparator.comparingDouble(MetricsSnapshot::getTotalMillis).reversed())
+                .toList();
+    }
+
+    private static String getRuleName(Rule rule) {
+        return rule != null ? StringUtils.defaultIfEmpty(rule.getName(), "untitled") : "";
+    }
+
+    private static String getOperationName(Rule rule, IRuleOperation<?> operation) {
+        String prefix = operation instanceof When<?> ? "When" : "Then";
+        int index = -1;
+        if (rule != null) {
+            index = operation instanceof Then<?> ? rule.getThens().indexOf(operation) : rule.getWhens().indexOf(operation);
+        }
+        return index >= 0 ?
+                String.format("%s #%s %s", prefix, index + 1, operation.getType().getName()) :
+                String.format("%s %s", prefix, operation.getType().getName());
+    }
+}
@@ -0,0 +1,17 @@
+package synfron.reshaper.burp.core.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MetricsSnapshot {
+    private final String ruleName;
+    private final String operationName;
+    private final long count;
+    private final double totalMillis;
+    private final double meanMillis;
+    private final double p50Millis;
+    private final double p95Millis;
+    private final double p99Millis;
+}
@@ -0,0 +1,45 @@
+package synfron.reshaper.burp.core.metrics;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class OperationMetrics {
+    @Getter
+    private final String ruleName;
+    @Getter
+    private final String operationName;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    public OperationMetrics(String ruleName, String operationName) {
+        this.ruleName = ruleName;
+        this.operationName = operationName;
+    }
+
+    public void record(long nanos) {
+        count.increment();
+        totalNanos.add(nanos);
+        histogram.record(nanos);
+    }
+
+    public MetricsSnapshot getSnapshot() {
+        long count = this.count.sum();
+        long totalNanos = this.totalNanos.sum();
+        return new MetricsSnapshot(
+                ruleName,
+                operationName,
+                count,
+                toMillis(totalNanos),
+                count > 0 ? toMillis(totalNanos / count) : 0,
+                toMillis(histogram.getPercentile(50)),
+                toMillis(histogram.getPercentile(95)),
+                toMillis(histogram.getPercentile(99))
+        );
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000d;
+    }
+}
@@ -0,0 +1,37 @@
+package synfron.reshaper.burp.core.rules;
+
+import lombok.Getter;
+import synfron.reshaper.burp.core.rules.thens.CompiledThen;
+import synfron.reshaper.burp.core.rules.whens.CompiledWhen;
+import synfron.reshaper.burp.core.rules.whens.WhenOptimizer;
+
+public class CompiledRule {
+    private static final int ReorderInterval = 1024;
+
+    @Getter
+    private final Rule rule;
+    @Getter
+    private final CompiledWhen[] whens;
+    @Getter
+    private final CompiledThen[] thens;
+    private volatile CompiledWhen[] optimizedWhens;
+    private int optimizedEvaluations;
+
+    public CompiledRule(Rule rule) {
+        this.rule = rule;
+        this.whens = CompiledWhen.compile(rule.getWhens());
+        this.thens = CompiledThen.compile(rule.getThens());
+    }
+
+    public CompiledWhen[] getOptimizedWhens() {
+        CompiledWhen[] optimizedWhens = this.optimizedWhens;
+        if (optimizedWhens == null) {
+            optimizedWhens = WhenOptimizer.reorder(whens);
+            this.optimizedWhens = optimizedWhens;
+        } else if (++optimizedEvaluations % ReorderInterval == 0) {
+            optimizedWhens = WhenOptimizer.reorder(optimizedWhens);
+            this.optimizedWhens = optimizedWhens;
+        }
+        return optimizedWhens;
+    }
+}
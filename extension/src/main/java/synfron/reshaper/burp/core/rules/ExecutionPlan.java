@@ -0,0 +1,46 @@
+package synfron.reshaper.burp.core.rules;
+
+import lombok.Getter;
+import synfron.reshaper.burp.core.rules.whens.CompiledWhen;
+import synfron.reshaper.burp.core.rules.whens.LiteralMatchIndex;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ExecutionPlan {
+    public static final ExecutionPlan Empty = new ExecutionPlan(-1, new Rule[0]);
+
+    @Getter
+    private final int version;
+    @Getter
+    private final CompiledRule[] autoRunRules;
+    @Getter
+    private final RuleIndex ruleIndex;
+    private final Map<Rule, CompiledRule> compiledRules;
+
+    public ExecutionPlan(int version, Rule[] rules) {
+        this.version = version;
+        compiledRules = new IdentityHashMap<>(rules.length);
+        List<CompiledRule> autoRunRules = new ArrayList<>(rules.length);
+        List<CompiledWhen[]> whenLists = new ArrayList<>(rules.length);
+        for (Rule rule : rules) {
+            if (rule.isEnabled()) {
+                CompiledRule compiledRule = new CompiledRule(rule);
+                compiledRules.put(rule, compiledRule);
+                whenLists.add(compiledRule.getWhens());
+                if (rule.isAutoRun()) {
+                    autoRunRules.add(compiledRule);
+                }
+            }
+        }
+        LiteralMatchIndex.compile(whenLists);
+        this.autoRunRules = autoRunRules.toArray(CompiledRule[]::new);
+        ruleIndex = new RuleIndex(this.autoRunRules);
+    }
+
+    public CompiledRule getCompiledRule(Rule rule) {
+        return compiledRules.get(rule);
+    }
+}
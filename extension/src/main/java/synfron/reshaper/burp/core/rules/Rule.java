@@ -6,6 +6,7 @@ import synfron.reshaper.burp.core.events.PropertyChangedArgs;
 import synfron.reshaper.burp.core.events.PropertyChangedEvent;
 import synfron.reshaper.burp.core.rules.thens.Then;
 import synfron.reshaper.burp.core.rules.whens.When;
+import synfron.reshaper.burp.core.utils.RegexEngine;
 import synfron.reshaper.burp.core.utils.Serializer;
 
 import java.io.Serializable;
@@ -24,38 +25,51 @@ public class Rule implements Serializable {
     @Getter
     private boolean autoRun = true;
     @Getter
+    private RegexEngine regexEngine = RegexEngine.Default;
+    @Getter
     private String name;
     @Getter
     private transient boolean diagnosticsEnabled;
 
     public void setName(String name) {
         this.name = name;
-        propertyChangedEvent.invoke(new PropertyChangedArgs(this, "name", name));
+        propertyChanged("name", name);
     }
 
     public void setEnabled(boolean enabled) {
         this.enabled = enabled;
-        propertyChangedEvent.invoke(new PropertyChangedArgs(this, "enabled", enabled));
+        propertyChanged("enabled", enabled);
     }
 
     public void setAutoRun(boolean autoRun) {
         this.autoRun = autoRun;
-        propertyChangedEvent.invoke(new PropertyChangedArgs(this, "autoRun", autoRun));
+        propertyChanged("autoRun", autoRun);
+    }
+
+    public void setRegexEngine(RegexEngine regexEngine) {
+        this.regexEngine = regexEngine;
+        propertyChanged("regexEngine", regexEngine);
     }
 
     public void setWhens(List<? extends When<?>> whens) {
         this.whens = whens;
-        propertyChangedEvent.invoke(new PropertyChangedArgs(this, "whens", whens));
+        propertyChanged("whens", whens);
     }
 
     public void setThens(List<? extends Then<?>> thens) {
         this.thens = thens;
-        propertyChangedEvent.invoke(new PropertyChangedArgs(this, "thens", thens));
+        propertyChanged("thens", thens);
     }
 
     public void setDiagnosticsEnabled(boolean diagnosticsEnabled) {
         this.diagnosticsEnabled = diagnosticsEnabled;
-        propertyChangedEvent.invoke(new PropertyChangedArgs(this, "diagnosticsEnabled", diagnosticsEnabled));
+        propertyChanged("diagnosticsEnabled", diagnosticsEnabled);
+    }
+
+    private void propertyChanged(String name, Object value) {
+        if (propertyChangedEvent.hasListeners()) {
+            propertyChangedEvent.invoke(new PropertyChangedArgs(this, name, value));
+        }
     }
 
     @Override
@@ -0,0 +1,140 @@
+package synfron.reshaper.burp.core.rules;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.apache.commons.lang3.StringUtils;
+import synfron.reshaper.burp.core.BurpTool;
+import synfron.reshaper.burp.core.messages.*;
+import synfron.reshaper.burp.core.rules.whens.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+public class RuleIndex {
+    private final CompiledRule[] rules;
+    private final List<List<Predicate<Key>>> ruleFilters;
+    private final Map<Key, int[]> candidatesCache = new ConcurrentHashMap<>();
+    private boolean usesHttpDataDirection;
+    private boolean usesWebSocketDataDirection;
+    private boolean usesMessageType;
+    private boolean usesProxyName;
+    private boolean usesContentType;
+
+    public RuleIndex(CompiledRule[] rules) {
+        this.rules = rules;
+        ruleFilters = new ArrayList<>(rules.length);
+        for (CompiledRule rule : rules) {
+            ruleFilters.add(getFilters(rule));
+        }
+    }
+
+    public int size() {
+        return rules.length;
+    }
+
+    public CompiledRule get(int ruleIndex) {
+        return rules[ruleIndex];
+    }
+
+    public Key getKey(EventInfo eventInfo) {
+        HttpEventInfo httpEventInfo = eventInfo instanceof HttpEventInfo ? (HttpEventInfo) eventInfo : null;
+        WebSocketEventInfo<?> webSocketEventInfo = eventInfo instanceof WebSocketEventInfo<?> ? (WebSocketEventInfo<?>) eventInfo : null;
+        return new Key(
+                eventInfo.getBurpTool(),
+                usesHttpDataDirection && httpEventInfo != null ? httpEventInfo.getDataDirection() : null,
+                usesWebSocketDataDirection && webSocketEventInfo != null ? webSocketEventInfo.getDataDirection() : null,
+                usesMessageType && webSocketEventInfo != null ? webSocketEventInfo.getMessageType() : null,
+                usesProxyName && httpEventInfo != null ? StringUtils.lowerCase(httpEventInfo.getProxyName()) : null,
+                usesContentType && eventInfo.getHttpRequestMessage() != null ? eventInfo.getHttpRequestMessage().getContentType() : null
+        );
+    }
+
+    public int[] getCandidates(Key key) {
+        return candidatesCache.computeIfAbsent(key, this::findCandidates);
+    }
+
+    public int getNextCandidate(int[] candidates, int ruleIndex) {
+        int low = 0;
+        int high = candidates.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (candidates[middle] <= ruleIndex) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int[] findCandidates(Key key) {
+        List<Integer> candidates = new ArrayList<>(rules.length);
+        for (int ruleIndex = 0; ruleIndex < rules.length; ruleIndex++) {
+            if (ruleFilters.get(ruleIndex).stream().allMatch(filter -> filter.test(key))) {
+                candidates.add(ruleIndex);
+            }
+        }
+        return candidates.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private List<Predicate<Key>> getFilters(CompiledRule rule) {
+        List<Predicate<Key>> filters = new ArrayList<>();
+        if (rule.getRule().isDiagnosticsEnabled()) {
+            return filters;
+        }
+        CompiledWhen[] whens = rule.getWhens();
+        for (int whenIndex = whens.length - 1; whenIndex >= 0; whenIndex--) {
+            When<?> when = whens[whenIndex].getWhen();
+            if (when.isUseOrCondition() && whenIndex != 0) {
+                break;
+            }
+            Predicate<Key> filter = getFilter(when);
+            if (filter != null) {
+                filters.add(when.isNegate() ? filter.negate() : filter);
+            }
+        }
+        return filters;
+    }
+
+    private Predicate<Key> getFilter(When<?> when) {
+        if (when instanceof WhenFromTool whenFromTool) {
+            BurpTool tool = whenFromTool.getTool();
+            return key -> key.burpTool == tool;
+        } else if (when instanceof WhenEventDirection whenEventDirection) {
+            HttpDataDirection dataDirection = whenEventDirection.getDataDirection();
+            usesHttpDataDirection = true;
+            return key -> key.httpDataDirection == dataDirection;
+        } else if (when instanceof WhenWebSocketEventDirection whenWebSocketEventDirection) {
+            WebSocketDataDirection dataDirection = whenWebSocketEventDirection.getDataDirection();
+            usesWebSocketDataDirection = true;
+            return key -> key.webSocketDataDirection == dataDirection;
+        } else if (when instanceof WhenMessageType whenMessageType) {
+            WebSocketMessageType messageType = whenMessageType.getMessageType();
+            usesMessageType = true;
+            return key -> key.messageType == messageType;
+        } else if (when instanceof WhenProxyName whenProxyName) {
+            String proxyName = whenProxyName.getProxyName();
+            usesProxyName = true;
+            return key -> StringUtils.equalsIgnoreCase(key.proxyName, proxyName);
+        } else if (when instanceof WhenContentType whenContentType) {
+            ContentType contentType = whenContentType.getContentType();
+            usesContentType = true;
+            return key -> key.contentType != null && contentType.hasFlags(key.contentType);
+        }
+        return null;
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key {
+        private final BurpTool burpTool;
+        private final HttpDataDirection httpDataDirection;
+        private final WebSocketDataDirection webSocketDataDirection;
+        private final WebSocketMessageType messageType;
+        private final String proxyName;
+        private final ContentType contentType;
+    }
+}
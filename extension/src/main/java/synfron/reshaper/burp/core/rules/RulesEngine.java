@@ -2,10 +2,14 @@ package synfron.reshaper.burp.core.rules;
 
 import lombok.Getter;
 import org.mozilla.javascript.RhinoException;
+import synfron.reshaper.burp.core.exceptions.RegexTimeoutException;
 import synfron.reshaper.burp.core.messages.EventInfo;
+import synfron.reshaper.burp.core.metrics.EventMetrics;
 import synfron.reshaper.burp.core.rules.thens.IThenGroup;
+import synfron.reshaper.burp.core.rules.whens.CompiledWhen;
 import synfron.reshaper.burp.core.rules.whens.IWhenGroup;
 import synfron.reshaper.burp.core.utils.Log;
+import synfron.reshaper.burp.core.utils.RegexEngine;
 
 public class RulesEngine implements IWhenGroup, IThenGroup {
 
@@ -14,15 +18,20 @@ public class RulesEngine implements IWhenGroup, IThenGroup {
 
     public RuleResponse run(EventInfo eventInfo)
     {
-        Rule[] rules = rulesRegistry.getRules();
+        ExecutionPlan executionPlan = rulesRegistry.getExecutionPlan();
         try {
-            for (Rule rule : rules) {
-                if (rule.isAutoRun()) {
+            if (eventInfo.getDiagnostics().isEnabled()) {
+                for (CompiledRule rule : executionPlan.getAutoRunRules()) {
+                    if (eventInfo.skipIfOverBudget()) {
+                        break;
+                    }
                     RuleResponse thenResult = run(eventInfo, rule);
                     if (thenResult.hasFlags(RuleResponse.BreakRules)) {
                         break;
                     }
                 }
+            } else {
+                runIndexed(eventInfo, executionPlan.getRuleIndex());
             }
         } finally {
             if (eventInfo.getDiagnostics().hasLogs()) eventInfo.getDiagnostics().logStart(eventInfo);
@@ -31,31 +40,85 @@ public class RulesEngine implements IWhenGroup, IThenGroup {
         return RuleResponse.Continue;
     }
 
+    private void runIndexed(EventInfo eventInfo, RuleIndex ruleIndex) {
+        RuleIndex.Key key = ruleIndex.getKey(eventInfo);
+        int[] candidates = ruleIndex.getCandidates(key);
+        for (int candidateIndex = 0; candidateIndex < candidates.length; candidateIndex++) {
+            if (eventInfo.skipIfOverBudget()) {
+                break;
+            }
+            int ruleIndexPosition = candidates[candidateIndex];
+            RuleResponse thenResult = run(eventInfo, ruleIndex.get(ruleIndexPosition));
+            if (thenResult.hasFlags(RuleResponse.BreakRules)) {
+                break;
+            }
+            RuleIndex.Key nextKey = ruleIndex.getKey(eventInfo);
+            if (!nextKey.equals(key)) {
+                key = nextKey;
+                candidates = ruleIndex.getCandidates(key);
+                candidateIndex = ruleIndex.getNextCandidate(candidates, ruleIndexPosition) - 1;
+            }
+        }
+    }
+
     public RuleResponse run(EventInfo eventInfo, Rule rule)
     {
+        CompiledRule compiledRule = rulesRegistry.getExecutionPlan().getCompiledRule(rule);
+        return run(eventInfo, compiledRule != null ? compiledRule : new CompiledRule(rule));
+    }
+
+    private RuleResponse run(EventInfo eventInfo, CompiledRule compiledRule)
+    {
+        Rule rule = compiledRule.getRule();
+        EventMetrics eventMetrics = eventInfo.getEventMetrics();
+        Rule parentRule = null;
+        long start = 0;
+        if (eventMetrics != null) {
+            parentRule = eventMetrics.getRule();
+            eventMetrics.setRule(rule);
+            start = System.nanoTime();
+        }
         RuleResponse thenResult = RuleResponse.Continue;
         boolean ruleDiagnosticsEnabled = eventInfo.getDiagnostics().isRuleEnabled();
         boolean currentRuleDiagnosticsEnabled = rule.isDiagnosticsEnabled();
+        RegexEngine parentRegexEngine = eventInfo.getRuleRegexEngine();
+        if (rule.getRegexEngine() != RegexEngine.Default) {
+            eventInfo.setRuleRegexEngine(rule.getRegexEngine());
+        }
         if (!ruleDiagnosticsEnabled && currentRuleDiagnosticsEnabled) {
             eventInfo.getDiagnostics().setRuleEnabled(true);
         }
         if (rule.isEnabled() && eventInfo.getDiagnostics().isEnabled()) eventInfo.getDiagnostics().logStart(rule);
         try
         {
-            if (rule.isEnabled() && isMatch(rule.getWhens(), eventInfo))
+            if (rule.isEnabled() && isMatch(getWhens(eventInfo, compiledRule), eventInfo))
             {
-                thenResult = thenResult.or(perform(rule.getThens(), eventInfo));
+                thenResult = thenResult.or(perform(compiledRule.getThens(), eventInfo));
             }
+        } catch (RegexTimeoutException e) {
+            eventInfo.getWorkspace().getMetrics().recordRegexTimeout();
+            Log.get(eventInfo.getWorkspace()).withMessage(String.format("Regex timed out in rule '%s'", rule.getName())).withException(e).withPayload(e.getPattern()).logErr();
         } catch (RhinoException e) {
             Log.get(eventInfo.getWorkspace()).withMessage("Failure running rule").withException(e).withPayload(e.getScriptStackTrace()).logErr();
         } catch (Exception e) {
             Log.get(eventInfo.getWorkspace()).withException(e).withMessage("Failure running rule").withPayload(rule).logErr();
         } finally {
             if (rule.isEnabled() && eventInfo.getDiagnostics().isEnabled()) eventInfo.getDiagnostics().logEnd(rule);
+            eventInfo.setRuleRegexEngine(parentRegexEngine);
         }
         if (!ruleDiagnosticsEnabled && currentRuleDiagnosticsEnabled) {
             eventInfo.getDiagnostics().setRuleEnabled(false);
         }
+        if (eventMetrics != null) {
+            eventMetrics.record(rule, System.nanoTime() - start);
+            eventMetrics.setRule(parentRule);
+        }
         return thenResult;
     }
+
+    private CompiledWhen[] getWhens(EventInfo eventInfo, CompiledRule compiledRule) {
+        return eventInfo.getWorkspace().getGeneralSettings().isEnableWhenReordering() && !eventInfo.getDiagnostics().isEnabled() ?
+                compiledRule.getOptimizedWhens() :
+                compiledRule.getWhens();
+    }
 }
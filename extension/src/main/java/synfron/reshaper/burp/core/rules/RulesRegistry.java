@@ -15,16 +15,34 @@ import java.util.stream.Stream;
 
 public class RulesRegistry {
     @Getter
-    private transient int version;
+    private transient volatile int version;
 
     private final IEventListener<PropertyChangedArgs> rulePropertyChangedListener = this::onRulePropertyChanged;
 
     private Rule[] rules = new Rule[0];
 
+    private volatile ExecutionPlan executionPlan = ExecutionPlan.Empty;
+
     public Rule[] getRules() {
         return rules;
     }
 
+    public ExecutionPlan getExecutionPlan() {
+        ExecutionPlan executionPlan = this.executionPlan;
+        if (executionPlan.getVersion() != version) {
+            executionPlan = compileExecutionPlan();
+        }
+        return executionPlan;
+    }
+
+    private synchronized ExecutionPlan compileExecutionPlan() {
+        int version = this.version;
+        if (executionPlan.getVersion() != version) {
+            executionPlan = new ExecutionPlan(version, rules);
+        }
+        return executionPlan;
+    }
+
     @Getter
     private final CollectionChangedEvent collectionChangedEvent = new CollectionChangedEvent();
 
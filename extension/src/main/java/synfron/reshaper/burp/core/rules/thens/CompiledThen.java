@@ -0,0 +1,59 @@
+package synfron.reshaper.burp.core.rules.thens;
+
+import lombok.Getter;
+import synfron.reshaper.burp.core.messages.EventInfo;
+import synfron.reshaper.burp.core.metrics.EventMetrics;
+import synfron.reshaper.burp.core.rules.RuleResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CompiledThen {
+    public static final CompiledThen[] Empty = new CompiledThen[0];
+
+    @Getter
+    private final Then<?> then;
+    private final CompiledThen[] group;
+
+    private CompiledThen(Then<?> then, CompiledThen[] group) {
+        this.then = then;
+        this.group = group;
+    }
+
+    public RuleResponse perform(EventInfo eventInfo) {
+        EventMetrics eventMetrics = eventInfo.getEventMetrics();
+        if (eventMetrics != null) {
+            long start = System.nanoTime();
+            try {
+                return execute(eventInfo);
+            } finally {
+                eventMetrics.record(then, System.nanoTime() - start);
+            }
+        }
+        return execute(eventInfo);
+    }
+
+    private RuleResponse execute(EventInfo eventInfo) {
+        return group != null ?
+                ((IThenGroup) then).perform(group, eventInfo) :
+                then.perform(eventInfo);
+    }
+
+    public static CompiledThen[] compile(List<? extends Then<?>> thens) {
+        return thens == null || thens.isEmpty() ? Empty : compile(thens, 0, thens.size());
+    }
+
+    private static CompiledThen[] compile(List<? extends Then<?>> thens, int startIndex, int endIndex) {
+        List<CompiledThen> compiledThens = new ArrayList<>(endIndex - startIndex);
+        for (int thenIndex = startIndex; thenIndex < endIndex; thenIndex++) {
+            Then<?> then = thens.get(thenIndex);
+            CompiledThen[] group = null;
+            if (then.isGroup() && then instanceof IThenGroup) {
+                group = compile(thens, thenIndex + 1, Math.min(thenIndex + 1 + then.groupSize(), endIndex));
+            }
+            compiledThens.add(new CompiledThen(then, group));
+            thenIndex += then.groupSize();
+        }
+        return compiledThens.toArray(CompiledThen[]::new);
+    }
+}
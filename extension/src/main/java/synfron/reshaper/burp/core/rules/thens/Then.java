@@ -7,7 +7,6 @@ import synfron.reshaper.burp.core.rules.IRuleOperation;
 import synfron.reshaper.burp.core.rules.RuleResponse;
 import synfron.reshaper.burp.core.utils.Serializer;
 import synfron.reshaper.burp.core.vars.SetListItemPlacement;
-import synfron.reshaper.burp.core.vars.Variable;
 import synfron.reshaper.burp.core.vars.VariableSource;
 import synfron.reshaper.burp.core.vars.Variables;
 
@@ -28,6 +27,7 @@ import synfron.reshaper.burp.core.vars.Variables;
         @JsonSubTypes.Type(value = ThenSendTo.class),
         @JsonSubTypes.Type(value = ThenSetEventDirection.class),
         @JsonSubTypes.Type(value = ThenSetValue.class),
+        @JsonSubTypes.Type(value = ThenBulkReplace.class),
         @JsonSubTypes.Type(value = ThenSetVariable.class),
         @JsonSubTypes.Type(value = ThenRunProcess.class),
         @JsonSubTypes.Type(value = ThenBuildHttpMessage.class),
@@ -51,10 +51,11 @@ public abstract class Then<T extends Then<T>> implements IRuleOperation<T> {
 
     protected void setVariable(VariableSource variableSource, EventInfo eventInfo, String variableName, SetListItemPlacement itemPlacement, String delimiter, Integer index, String value) {
         Variables variables = getVariables(variableSource, eventInfo);
-        Variable variable;
         if (variables != null) {
-            variable = variables.add(Variables.asKey(variableName, variableSource.isList()));
-            variable.setValue(itemPlacement, delimiter, index, value);
+            variables.update(Variables.asKey(variableName, variableSource.isList()), variable -> {
+                variable.setValue(itemPlacement, delimiter, index, value);
+                return variable;
+            });
         }
     }
 }
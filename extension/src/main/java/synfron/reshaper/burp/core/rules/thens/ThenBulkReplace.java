@@ -0,0 +1,140 @@
+package synfron.reshaper.burp.core.rules.thens;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import synfron.reshaper.burp.core.exceptions.WrappedException;
+import synfron.reshaper.burp.core.messages.Encoder;
+import synfron.reshaper.burp.core.messages.EventInfo;
+import synfron.reshaper.burp.core.messages.MessageValue;
+import synfron.reshaper.burp.core.messages.MessageValueHandler;
+import synfron.reshaper.burp.core.rules.*;
+import synfron.reshaper.burp.core.rules.thens.entities.bulkreplace.ReplacementTableSource;
+import synfron.reshaper.burp.core.utils.BoundedCache;
+import synfron.reshaper.burp.core.utils.TextReplacer;
+import synfron.reshaper.burp.core.utils.TextUtils;
+import synfron.reshaper.burp.core.vars.ListVariable;
+import synfron.reshaper.burp.core.vars.VariableSource;
+import synfron.reshaper.burp.core.vars.VariableString;
+import synfron.reshaper.burp.core.vars.Variables;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.List;
+
+public class ThenBulkReplace extends Then<ThenBulkReplace> implements IHttpRuleOperation, IWebSocketRuleOperation {
+    private static final BoundedCache<FileKey, List<String>> fileCache = new BoundedCache<>(64);
+
+    @Getter @Setter
+    private MessageValue messageValue;
+    @Getter @Setter
+    private VariableString identifier;
+    @Getter @Setter
+    private SetItemPlacement identifierPlacement = SetItemPlacement.Only;
+    @Getter @Setter
+    private ReplacementTableSource tableSource = ReplacementTableSource.Inline;
+    @Getter @Setter
+    private VariableString entries;
+    @Getter @Setter
+    private VariableSource listVariableSource = VariableSource.GlobalList;
+    @Getter @Setter
+    private VariableString listVariableName;
+    @Getter @Setter
+    private VariableString filePath;
+    @Getter @Setter
+    private VariableString encoding;
+    @Getter @Setter
+    private VariableString separator;
+    @Getter @Setter
+    private boolean ignoreCase;
+    @Getter @Setter
+    private boolean wholeWord;
+
+    @Override
+    public RuleResponse perform(EventInfo eventInfo) {
+        boolean hasError = false;
+        String tableName = null;
+        String separatorText = null;
+        Integer replacementCount = null;
+        String text = null;
+        String replacedText = null;
+        try {
+            tableName = switch (tableSource) {
+                case Inline -> null;
+                case ListVariable -> listVariableName.getText(eventInfo);
+                case File -> filePath.getText(eventInfo);
+            };
+            separatorText = VariableString.getTextOrDefault(eventInfo, separator, "\t");
+            List<String> table = switch (tableSource) {
+                case Inline -> TextUtils.getLines(entries.getText(eventInfo));
+                case ListVariable -> getListVariableEntries(eventInfo, tableName);
+                case File -> getFileEntries(tableName, VariableString.getTextOrDefault(eventInfo, encoding, Charset.defaultCharset().name()));
+            };
+            TextReplacer replacer = TextReplacer.get(table, separatorText, ignoreCase, wholeWord);
+            replacementCount = replacer.size();
+            text = MessageValueHandler.getValue(eventInfo, messageValue, identifier, IItemPlacement.toGet(identifierPlacement));
+            replacedText = replacer.replace(text);
+            if (!replacedText.equals(text)) {
+                MessageValueHandler.setValue(eventInfo, messageValue, identifier, identifierPlacement, replacedText);
+            }
+        } catch (Exception e) {
+            hasError = true;
+            throw e;
+        } finally {
+            if (eventInfo.getDiagnostics().isEnabled()) eventInfo.getDiagnostics().logProperties(this, hasError, List.of(
+                    Pair.of("messageValue", messageValue),
+                    Pair.of("identifier", messageValue.isIdentifierRequired() ? VariableString.getTextOrDefault(eventInfo, identifier, null) : null),
+                    Pair.of("identifierPlacement", messageValue.isIdentifierRequired() ? identifierPlacement : null),
+                    Pair.of("tableSource", tableSource),
+                    Pair.of("listVariableSource", tableSource == ReplacementTableSource.ListVariable ? listVariableSource : null),
+                    Pair.of("listVariableName", tableSource == ReplacementTableSource.ListVariable ? tableName : null),
+                    Pair.of("filePath", tableSource == ReplacementTableSource.File ? tableName : null),
+                    Pair.of("separator", separatorText),
+                    Pair.of("ignoreCase", ignoreCase),
+                    Pair.of("wholeWord", wholeWord),
+                    Pair.of("replacements", replacementCount),
+                    Pair.of("input", text),
+                    Pair.of("output", replacedText)
+            ));
+        }
+        return RuleResponse.Continue;
+    }
+
+    private List<String> getListVariableEntries(EventInfo eventInfo, String listVariableName) {
+        Variables variables = getVariables(listVariableSource, eventInfo);
+        ListVariable variable = variables != null ? (ListVariable) variables.getOrDefault(Variables.asKey(listVariableName, true)) : null;
+        return variable != null ?
+                variable.getValues().stream().map(TextUtils::toString).toList() :
+                Collections.emptyList();
+    }
+
+    private static List<String> getFileEntries(String filePath, String encoding) {
+        File file = new File(filePath);
+        return fileCache.get(new FileKey(file.getAbsolutePath(), file.lastModified(), file.length(), encoding), key -> {
+            try {
+                return TextUtils.getLines(new Encoder(key.encoding).decode(FileUtils.readFileToByteArray(file)));
+            } catch (IOException e) {
+                throw new WrappedException(e);
+            }
+        });
+    }
+
+    @Override
+    public RuleOperationType<ThenBulkReplace> getType() {
+        return ThenType.BulkReplace;
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class FileKey {
+        private final String path;
+        private final long lastModified;
+        private final long length;
+        private final String encoding;
+    }
+}
@@ -25,7 +25,7 @@ public class ThenDelay extends Then<ThenDelay> implements IHttpRuleOperation, IW
     public RuleResponse perform(EventInfo eventInfo) {
         boolean hasError = false;
         try {
-            Thread.sleep(ObjectUtils.defaultIfNull(delay.getInt(eventInfo), 0));
+            Thread.sleep(eventInfo.getBudgetedMillis(ObjectUtils.defaultIfNull(delay.getInt(eventInfo), 0)));
         } catch (InterruptedException e) {
             Log.get().withMessage("Delay interrupted").withException(e).logErr();
             hasError = true;
@@ -41,31 +41,32 @@ public class ThenEvaluate extends Then<ThenEvaluate> implements IHttpRuleOperati
     public RuleResponse perform(EventInfo eventInfo) {
         boolean hasError = true;
         String result = null;
-        Object value1 = null;
-        Object value2 = null;
+        Object[] values = new Object[2];
         try {
             Variables variables = getVariables(destinationVariableSource, eventInfo);
             if (variables != null) {
-                Variable variable = variables.add(Variables.asKey(destinationVariableName.getText(eventInfo), destinationVariableSource.isList()));
-                if (operation.isNumeric()) {
-                    value1 = operation.getInputs() > 0 ? VariableString.getDoubleOrDefault(eventInfo, x, null) : null;
-                    value2 = operation.getInputs() > 1 ? VariableString.getDoubleOrDefault(eventInfo, y, null) : null;
-                    result = evaluate((Double)value1, (Double)value2);
-                }
-                else {
-                    value1 = operation.getInputs() > 0 ? VariableString.getTextOrDefault(eventInfo, x, "") : null;
-                    value2 = operation.getInputs() > 1 ? VariableString.getTextOrDefault(eventInfo, y, "") : null;
-                    result = evaluate((String)value1, (String)value2);
-                }
-                if (result != null) {
-                    variable.setValue(itemPlacement, VariableString.getTextOrDefault(eventInfo, delimiter, "\n"), VariableString.getIntOrDefault(eventInfo, index, 0), result);
-                }
+                String delimiterText = VariableString.getTextOrDefault(eventInfo, delimiter, "\n");
+                Integer indexValue = VariableString.getIntOrDefault(eventInfo, index, 0);
+                result = variables.update(Variables.asKey(destinationVariableName.getText(eventInfo), destinationVariableSource.isList()), variable -> {
+                    if (operation.isNumeric()) {
+                        values[0] = operation.getInputs() > 0 ? VariableString.getDoubleOrDefault(eventInfo, x, null) : null;
+                        values[1] = operation.getInputs() > 1 ? VariableString.getDoubleOrDefault(eventInfo, y, null) : null;
+                        return evaluate((Double)values[0], (Double)values[1]);
+                    }
+                    values[0] = operation.getInputs() > 0 ? VariableString.getTextOrDefault(eventInfo, x, "") : null;
+                    values[1] = operation.getInputs() > 1 ? VariableString.getTextOrDefault(eventInfo, y, "") : null;
+                    return evaluate((String)values[0], (String)values[1]);
+                }, (variable, value) -> {
+                    if (value != null) {
+                        variable.setValue(itemPlacement, delimiterText, indexValue, value);
+                    }
+                });
             }
             hasError = result == null;
         } finally {
             if (eventInfo.getDiagnostics().isEnabled()) eventInfo.getDiagnostics().logProperties(this, hasError, Arrays.asList(
-                    Pair.of("X", TextUtils.toString(value1)),
-                    Pair.of("Y", TextUtils.toString(value2)),
+                    Pair.of("X", TextUtils.toString(values[0])),
+                    Pair.of("Y", TextUtils.toString(values[1])),
                     Pair.of("destinationVariableSource", destinationVariableSource),
                     Pair.of("destinationVariableName", VariableString.getTextOrDefault(eventInfo, destinationVariableName, null)),
                     Pair.of("itemPlacement", destinationVariableSource.isList() ? itemPlacement : null),
@@ -39,23 +39,21 @@ public class ThenExtract extends Then<ThenExtract> implements IHttpRuleOperation
             extractorText = extractor.getText(eventInfo);
             listVariableNameText = listVariableName.getText(eventInfo);
             delimiterText = delimiter.getText(eventInfo);
-            VariableSourceEntry variableSource = new VariableSourceEntry(listVariableSource, List.of(listVariableNameText));
-            variable = switch (variableSource.getVariableSource()) {
-                case GlobalList -> (ListVariable) eventInfo.getWorkspace().getGlobalVariables().add(Variables.asKey(variableSource.getParams().getFirst(), true));
-                case EventList -> (ListVariable) eventInfo.getVariables().add(Variables.asKey(variableSource.getParams().getFirst(), true));
-                case SessionList -> (ListVariable) eventInfo.getSessionVariables().add(Variables.asKey(variableSource.getParams().getFirst(), true));
-                default -> null;
-            };
+            Variables variables = getVariables(listVariableSource, eventInfo);
 
             List<String> values = switch (extractorType) {
-                case Regex -> TextUtils.getRegexValues(valueText, extractorText);
-                case Json -> TextUtils.getJsonPathValues(valueText, extractorText);
-                case CssSelector -> TextUtils.getCssSelectorValues(valueText, extractorText);
-                case XPath -> TextUtils.getXPathValues(valueText, extractorText);
+                case Regex -> TextUtils.getRegexValues(valueText, extractor.getPattern(eventInfo, 0), eventInfo.getRegexTimeLimit());
+                case Json -> eventInfo.getDocumentCache().getJsonPathValues(valueText, extractorText);
+                case CssSelector -> eventInfo.getDocumentCache().getCssSelectorValues(valueText, extractorText);
+                case XPath -> eventInfo.getDocumentCache().getXPathValues(valueText, extractorText);
                 case Chunk -> TextUtils.getChunks(valueText, TextUtils.asInt(extractorText));
             };
 
-            variable.setValues(values.toArray(), delimiterText, itemsPlacement);
+            String valuesDelimiter = delimiterText;
+            variable = variables.update(Variables.asKey(listVariableNameText, true), listVariable -> {
+                ((ListVariable) listVariable).setValues(values.toArray(), valuesDelimiter, itemsPlacement);
+                return (ListVariable) listVariable;
+            });
         } catch (Exception e) {
             hasError = true;
             throw e;
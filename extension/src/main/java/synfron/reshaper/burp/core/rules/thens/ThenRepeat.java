@@ -40,11 +40,11 @@ public class ThenRepeat extends Then<ThenRepeat> implements IHttpRuleOperation,
 
     @Override
     public RuleResponse perform(EventInfo eventInfo) {
-        return perform(List.of(), eventInfo);
+        return perform(CompiledThen.Empty, eventInfo);
     }
 
     @Override
-    public RuleResponse perform(List<? extends Then<?>> thensSubList, EventInfo eventInfo) {
+    public RuleResponse perform(CompiledThen[] thensSubList, EventInfo eventInfo) {
         boolean hasError = false;
         int diagnosticsPosition = -1;
         RuleResponse thenResult = RuleResponse.Continue;
@@ -62,7 +62,7 @@ public class ThenRepeat extends Then<ThenRepeat> implements IHttpRuleOperation,
                 }
                 int iterationCount = 0;
                 if (iterator != null) {
-                    while (iterator.hasNext()) {
+                    while (iterator.hasNext() && !eventInfo.skipIfOverBudget()) {
                         thenResult = RuleResponse.Continue;
                         iterationCount++;
                         Object value = iterator.next();
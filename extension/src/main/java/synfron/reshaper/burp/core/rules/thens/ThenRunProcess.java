@@ -92,7 +92,7 @@ public class ThenRunProcess extends Then<ThenRunProcess> implements IHttpRuleOpe
                         executor.shutdown();
                     }
                 });
-                complete = executor.awaitTermination(failAfterInMilliseconds, TimeUnit.MILLISECONDS);
+                complete = executor.awaitTermination(eventInfo.getBudgetedMillis(failAfterInMilliseconds), TimeUnit.MILLISECONDS);
                 if (!complete) {
                     if (killAfterFailure && process.isAlive()) {
                         try {
@@ -108,7 +108,7 @@ public class ThenSendRequest extends Then<ThenSendRequest> implements IHttpRuleO
                 }
             });
             if (waitForCompletion) {
-                complete = executor.awaitTermination(failAfterInMilliseconds, TimeUnit.MILLISECONDS);
+                complete = executor.awaitTermination(eventInfo.getBudgetedMillis(failAfterInMilliseconds), TimeUnit.MILLISECONDS);
                 if (complete) {
                     executor.shutdownNow();
                 }
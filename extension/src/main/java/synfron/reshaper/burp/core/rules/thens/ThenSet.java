@@ -51,16 +51,16 @@ public abstract class ThenSet<T extends ThenSet<T>> extends Then<T> {
         if (sourceMessageValueType != MessageValueType.Text && sourceMessageValuePath != null)
         {
             text = switch (sourceMessageValueType) {
-                case Json -> StringUtils.defaultString(TextUtils.getJsonPathValue(text, sourceMessageValuePath.getText(eventInfo)));
-                case Html -> StringUtils.defaultString(TextUtils.getCssSelectorValue(text, sourceMessageValuePath.getText(eventInfo)));
-                case Params -> StringUtils.defaultString(TextUtils.getParamValue(text, sourceMessageValuePath.getText(eventInfo)));
+                case Json -> StringUtils.defaultString(eventInfo.getDocumentCache().getJsonPathValue(text, sourceMessageValuePath.getText(eventInfo)));
+                case Html -> StringUtils.defaultString(eventInfo.getDocumentCache().getCssSelectorValue(text, sourceMessageValuePath.getText(eventInfo)));
+                case Params -> StringUtils.defaultString(eventInfo.getDocumentCache().getParamValue(text, sourceMessageValuePath.getText(eventInfo)));
                 default -> text;
             };
         }
 
         if (useReplace && replacementText != null)
         {
-            text = text.replaceAll(regexPattern.getText(eventInfo), replacementText.getText(eventInfo));
+            text = TextUtils.replaceAll(text, regexPattern.getPattern(eventInfo, 0), replacementText.getText(eventInfo), eventInfo.getRegexTimeLimit());
         }
         return text;
     }
@@ -10,7 +10,6 @@ import synfron.reshaper.burp.core.rules.RuleOperationType;
 import synfron.reshaper.burp.core.rules.RuleResponse;
 import synfron.reshaper.burp.core.rules.IItemPlacement;
 import synfron.reshaper.burp.core.rules.SetItemPlacement;
-import synfron.reshaper.burp.core.utils.TextUtils;
 import synfron.reshaper.burp.core.vars.VariableString;
 
 import java.util.Arrays;
@@ -50,9 +49,9 @@ public class ThenSetValue extends ThenSet<ThenSetValue> implements IHttpRuleOper
                     IItemPlacement.toGet(destinationIdentifierPlacement)
             );
             switch (destinationMessageValueType) {
-                case Json -> replacementText = TextUtils.setJsonPathValue(fullText, destinationMessageValuePath.getText(eventInfo), replacementText);
-                case Html -> replacementText = TextUtils.setCssSelectorValue(fullText, destinationMessageValuePath.getText(eventInfo), replacementText);
-                case Params -> replacementText = TextUtils.setParamValue(fullText, destinationMessageValuePath.getText(eventInfo), replacementText);
+                case Json -> replacementText = eventInfo.getDocumentCache().setJsonPathValue(fullText, destinationMessageValuePath.getText(eventInfo), replacementText);
+                case Html -> replacementText = eventInfo.getDocumentCache().setCssSelectorValue(fullText, destinationMessageValuePath.getText(eventInfo), replacementText);
+                case Params -> replacementText = eventInfo.getDocumentCache().setParamValue(fullText, destinationMessageValuePath.getText(eventInfo), replacementText);
             }
         }
         MessageValueHandler.setValue(eventInfo, destinationMessageValue, destinationIdentifier, destinationIdentifierPlacement, replacementText);
@@ -48,17 +48,22 @@ public class ThenSetVariable extends ThenSet<ThenSetVariable> implements IHttpRu
         Variables variables = getVariables(targetSource, eventInfo);
         if (variables != null)
         {
-            Variable variable = variables.add(Variables.asKey(variableName.getText(eventInfo), targetSource.isList()));
-            if (destinationMessageValuePath != null && destinationMessageValueType != MessageValueType.Text && variable.hasValue())
-            {
-                String value = StringUtils.defaultString(TextUtils.toString(variable.getValue(IListItemPlacement.toGet(itemPlacement), VariableString.getIntOrDefault(eventInfo, index, null))));
-                switch (destinationMessageValueType) {
-                    case Json -> replacementText = TextUtils.setJsonPathValue(value, destinationMessageValuePath.getText(eventInfo), replacementText);
-                    case Html -> replacementText = TextUtils.setCssSelectorValue(value, destinationMessageValuePath.getText(eventInfo), replacementText);
-                    case Params -> replacementText = TextUtils.setParamValue(value, destinationMessageValuePath.getText(eventInfo), replacementText);
+            String inputText = replacementText;
+            String delimiterText = VariableString.getTextOrDefault(eventInfo, delimiter, "\n");
+            Integer indexValue = VariableString.getIntOrDefault(eventInfo, index, 0);
+            replacementText = variables.update(Variables.asKey(variableName.getText(eventInfo), targetSource.isList()), variable -> {
+                String value = inputText;
+                if (destinationMessageValuePath != null && destinationMessageValueType != MessageValueType.Text && variable.hasValue())
+                {
+                    String currentValue = StringUtils.defaultString(TextUtils.toString(variable.getValue(IListItemPlacement.toGet(itemPlacement), VariableString.getIntOrDefault(eventInfo, index, null))));
+                    switch (destinationMessageValueType) {
+                        case Json -> value = eventInfo.getDocumentCache().setJsonPathValue(currentValue, destinationMessageValuePath.getText(eventInfo), value);
+                        case Html -> value = eventInfo.getDocumentCache().setCssSelectorValue(currentValue, destinationMessageValuePath.getText(eventInfo), value);
+                        case Params -> value = eventInfo.getDocumentCache().setParamValue(currentValue, destinationMessageValuePath.getText(eventInfo), value);
+                    }
                 }
-            }
-            variable.setValue(itemPlacement, VariableString.getTextOrDefault(eventInfo, delimiter, "\n"), VariableString.getIntOrDefault(eventInfo, index, 0), replacementText);
+                return value;
+            }, (variable, value) -> variable.setValue(itemPlacement, delimiterText, indexValue, value));
             if (eventInfo.getDiagnostics().isEnabled()) eventInfo.getDiagnostics().logProperties(this, false, Arrays.asList(
                     Pair.of("sourceMessageValue", isUseMessageValue() ? getSourceMessageValue() : null),
                     Pair.of("sourceIdentifier", isUseMessageValue() && getSourceMessageValue().isIdentifierRequired() ? VariableString.getTextOrDefault(eventInfo, getSourceIdentifier(), null) : null),
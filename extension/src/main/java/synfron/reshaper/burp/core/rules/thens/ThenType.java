@@ -19,6 +19,7 @@ public class ThenType<T extends Then<T>> extends RuleOperationType<T> {
     public static final ThenType<ThenSetEventDirection> SetEventDirection = new ThenType<>("Set Event Direction", ThenSetEventDirection.class);
     public static final ThenType<ThenSetEncoding> SetEncoding = new ThenType<>("Set Encoding", ThenSetEncoding.class);
     public static final ThenType<ThenSetValue> SetValue = new ThenType<>("Set Value", ThenSetValue.class);
+    public static final ThenType<ThenBulkReplace> BulkReplace = new ThenType<>("Bulk Replace", ThenBulkReplace.class);
     public static final ThenType<ThenDeleteValue> DeleteValue = new ThenType<>("Delete Value", ThenDeleteValue.class);
     public static final ThenType<ThenSetVariable> SetVariable = new ThenType<>("Set Variable", ThenSetVariable.class);
     public static final ThenType<ThenDeleteVariable> DeleteVariable = new ThenType<>("Delete Variable", ThenDeleteVariable.class);
@@ -59,6 +60,7 @@ public class ThenType<T extends Then<T>> extends RuleOperationType<T> {
                 SetEventDirection,
                 SetEncoding,
                 SetValue,
+                BulkReplace,
                 DeleteValue,
                 SetVariable,
                 DeleteVariable,
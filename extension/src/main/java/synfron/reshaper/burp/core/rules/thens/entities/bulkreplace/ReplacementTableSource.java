@@ -0,0 +1,21 @@
+package synfron.reshaper.burp.core.rules.thens.entities.bulkreplace;
+
+import lombok.Getter;
+
+public enum ReplacementTableSource {
+    Inline("Inline"),
+    ListVariable("List Variable"),
+    File("File");
+
+    @Getter
+    private final String name;
+
+    ReplacementTableSource(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
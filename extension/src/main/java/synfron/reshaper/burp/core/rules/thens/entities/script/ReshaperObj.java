@@ -192,6 +192,7 @@ public class ReshaperObj {
             String adjustedThenTypeName = StringUtils.prependIfMissing(thenType, "Then");
             Stream<ThenType<?>> supportedThenTypes = Stream.of(
                     ThenType.BuildHttpMessage,
+                    ThenType.BulkReplace,
                     ThenType.Comment,
                     ThenType.DeleteValue,
                     ThenType.DeleteVariable,
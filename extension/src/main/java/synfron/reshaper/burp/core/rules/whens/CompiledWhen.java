@@ -0,0 +1,91 @@
+package synfron.reshaper.burp.core.rules.whens;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import synfron.reshaper.burp.core.messages.EventInfo;
+import synfron.reshaper.burp.core.metrics.EventMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CompiledWhen {
+    public static final CompiledWhen[] Empty = new CompiledWhen[0];
+
+    @Getter
+    private final When<?> when;
+    @Getter
+    private final CompiledWhen[] group;
+    @Getter
+    private final WhenTiming timing;
+    private final boolean timed;
+    @Setter(AccessLevel.PACKAGE)
+    private LiteralMatch literalMatch;
+
+    private CompiledWhen(When<?> when, CompiledWhen[] group, WhenTiming timing, boolean timed, LiteralMatch literalMatch) {
+        this.when = when;
+        this.group = group;
+        this.timing = timing;
+        this.timed = timed;
+        this.literalMatch = literalMatch;
+    }
+
+    public boolean isGroup() {
+        return group != null;
+    }
+
+    public boolean isMatch(EventInfo eventInfo) {
+        EventMetrics eventMetrics = eventInfo.getEventMetrics();
+        if (eventMetrics != null) {
+            long start = System.nanoTime();
+            try {
+                return evaluate(eventInfo);
+            } finally {
+                long nanos = System.nanoTime() - start;
+                eventMetrics.record(when, nanos);
+                if (timed) timing.record(nanos);
+            }
+        }
+        if (timed && timing.shouldSample()) {
+            long start = System.nanoTime();
+            try {
+                return evaluate(eventInfo);
+            } finally {
+                timing.record(System.nanoTime() - start);
+            }
+        }
+        return evaluate(eventInfo);
+    }
+
+    private boolean evaluate(EventInfo eventInfo) {
+        if (group != null) {
+            return ((IWhenGroup) when).isMatch(group, eventInfo);
+        }
+        return literalMatch != null ?
+                ((WhenMatchesText) when).isMatch(eventInfo, literalMatch) :
+                when.isMatch(eventInfo);
+    }
+
+    public CompiledWhen asTimed(CompiledWhen[] group) {
+        return new CompiledWhen(when, group, timing, true, literalMatch);
+    }
+
+    public static CompiledWhen[] compile(List<? extends When<?>> whens) {
+        return whens == null || whens.isEmpty() ? Empty : compile(whens, 0, whens.size());
+    }
+
+    private static CompiledWhen[] compile(List<? extends When<?>> whens, int startIndex, int endIndex) {
+        List<CompiledWhen> compiledWhens = new ArrayList<>(endIndex - startIndex);
+        for (int whenIndex = startIndex; whenIndex < endIndex; whenIndex++) {
+            When<?> when = whens.get(whenIndex);
+            CompiledWhen[] group = null;
+            if (when.isGroup() && when instanceof IWhenGroup) {
+                group = compile(whens, whenIndex + 1, Math.min(whenIndex + 1 + when.groupSize(), endIndex));
+            }
+            WhenTiming timing = new WhenTiming(((WhenType<?>) when.getType()).getEstimatedCost());
+            compiledWhens.add(new CompiledWhen(when, group, timing, false, null));
+            whenIndex += when.groupSize();
+        }
+        return compiledWhens.toArray(CompiledWhen[]::new);
+    }
+}
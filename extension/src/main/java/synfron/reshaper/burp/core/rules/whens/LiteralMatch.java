@@ -0,0 +1,30 @@
+package synfron.reshaper.burp.core.rules.whens;
+
+import lombok.AllArgsConstructor;
+import synfron.reshaper.burp.core.messages.EventInfo;
+import synfron.reshaper.burp.core.rules.MatchType;
+import synfron.reshaper.burp.core.utils.AhoCorasick;
+
+@AllArgsConstructor
+public class LiteralMatch {
+    private final AhoCorasick matcher;
+    private final int patternIndex;
+
+    public boolean isMatch(EventInfo eventInfo, CharSequence sourceText, MatchType matchType) {
+        AhoCorasick.Matches matches = eventInfo.getLiteralMatches(matcher, sourceText);
+        return switch (matchType) {
+            case BeginsWith -> matches.beginsWith(patternIndex);
+            case EndsWith -> matches.endsWith(patternIndex);
+            case Contains -> matches.contains(patternIndex);
+            case Equals -> matches.isEqualTo(patternIndex);
+            default -> false;
+        };
+    }
+
+    public static boolean isSupported(MatchType matchType) {
+        return matchType == MatchType.BeginsWith ||
+                matchType == MatchType.EndsWith ||
+                matchType == MatchType.Contains ||
+                matchType == MatchType.Equals;
+    }
+}
@@ -0,0 +1,84 @@
+package synfron.reshaper.burp.core.rules.whens;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import synfron.reshaper.burp.core.messages.MessageValue;
+import synfron.reshaper.burp.core.messages.MessageValueType;
+import synfron.reshaper.burp.core.rules.GetItemPlacement;
+import synfron.reshaper.burp.core.utils.AhoCorasick;
+import synfron.reshaper.burp.core.vars.VariableString;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class LiteralMatchIndex {
+    private static final int MinGroupSize = 2;
+
+    public static void compile(List<CompiledWhen[]> whenLists) {
+        Map<Key, List<CompiledWhen>> groups = new LinkedHashMap<>();
+        for (CompiledWhen[] whens : whenLists) {
+            collect(whens, groups);
+        }
+        for (List<CompiledWhen> group : groups.values()) {
+            if (group.size() >= MinGroupSize) {
+                compileGroup(group);
+            }
+        }
+    }
+
+    private static void collect(CompiledWhen[] whens, Map<Key, List<CompiledWhen>> groups) {
+        for (CompiledWhen compiledWhen : whens) {
+            if (compiledWhen.isGroup()) {
+                collect(compiledWhen.getGroup(), groups);
+            } else if (compiledWhen.getWhen() instanceof WhenMatchesText whenMatchesText && isSupported(whenMatchesText)) {
+                boolean identifierRequired = whenMatchesText.getMessageValue().isIdentifierRequired();
+                Key key = new Key(
+                        whenMatchesText.getMessageValue(),
+                        identifierRequired ? whenMatchesText.getIdentifier().getText(null) : null,
+                        identifierRequired ? whenMatchesText.getIdentifierPlacement() : null,
+                        whenMatchesText.isIgnoreCase()
+                );
+                groups.computeIfAbsent(key, k -> new ArrayList<>()).add(compiledWhen);
+            }
+        }
+    }
+
+    private static void compileGroup(List<CompiledWhen> group) {
+        Map<String, Integer> patternIndexes = new LinkedHashMap<>();
+        for (CompiledWhen compiledWhen : group) {
+            patternIndexes.putIfAbsent(getMatchText(compiledWhen), patternIndexes.size());
+        }
+        AhoCorasick matcher = new AhoCorasick(new ArrayList<>(patternIndexes.keySet()), ((WhenMatchesText) group.get(0).getWhen()).isIgnoreCase());
+        for (CompiledWhen compiledWhen : group) {
+            compiledWhen.setLiteralMatch(new LiteralMatch(matcher, patternIndexes.get(getMatchText(compiledWhen))));
+        }
+    }
+
+    private static String getMatchText(CompiledWhen compiledWhen) {
+        return ((WhenMatchesText) compiledWhen.getWhen()).getMatchText().getText(null);
+    }
+
+    private static boolean isSupported(WhenMatchesText when) {
+        return when.isUseMessageValue() &&
+                when.getMessageValue() != null &&
+                (when.getMessageValueType() == MessageValueType.Text || when.getMessageValuePath() == null) &&
+                LiteralMatch.isSupported(when.getMatchType()) &&
+                isConstant(when.getMatchText()) &&
+                (!when.getMessageValue().isIdentifierRequired() || isConstant(when.getIdentifier()));
+    }
+
+    private static boolean isConstant(VariableString variableString) {
+        return variableString != null && !variableString.hasVariables();
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class Key {
+        private final MessageValue messageValue;
+        private final String identifier;
+        private final GetItemPlacement identifierPlacement;
+        private final boolean ignoreCase;
+    }
+}
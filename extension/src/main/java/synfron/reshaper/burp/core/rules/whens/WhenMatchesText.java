@@ -4,16 +4,20 @@ import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import synfron.reshaper.burp.core.exceptions.RegexTimeoutException;
 import synfron.reshaper.burp.core.messages.*;
+import synfron.reshaper.burp.core.messages.entities.http.HttpBody;
 import synfron.reshaper.burp.core.rules.IHttpRuleOperation;
 import synfron.reshaper.burp.core.rules.IWebSocketRuleOperation;
 import synfron.reshaper.burp.core.rules.MatchType;
 import synfron.reshaper.burp.core.rules.RuleOperationType;
 import synfron.reshaper.burp.core.rules.GetItemPlacement;
+import synfron.reshaper.burp.core.utils.ByteSearch;
 import synfron.reshaper.burp.core.utils.TextUtils;
 import synfron.reshaper.burp.core.vars.VariableString;
 
 import java.util.Arrays;
+import java.util.regex.Pattern;
 
 public class WhenMatchesText extends When<WhenMatchesText> implements IHttpRuleOperation, IWebSocketRuleOperation {
     @Getter
@@ -49,27 +53,38 @@ public class WhenMatchesText extends When<WhenMatchesText> implements IHttpRuleO
 
     @Override
     public boolean isMatch(EventInfo eventInfo) {
+        return isMatch(eventInfo, null);
+    }
+
+    public boolean isMatch(EventInfo eventInfo, LiteralMatch literalMatch) {
         boolean isMatch = false;
         String sourceText = null;
         String matchText = null;
+        RegexTimeoutException regexTimeout = null;
         try {
+            Boolean rawBodyMatch = getRawBodyMatch(eventInfo, literalMatch);
+            if (rawBodyMatch != null) {
+                return rawBodyMatch;
+            }
             sourceText = useMessageValue ?
                     MessageValueHandler.getValue(eventInfo, messageValue, identifier, identifierPlacement) :
                     this.sourceText.getText(eventInfo);
             sourceText = getPathValue(sourceText, eventInfo);
             matchText = this.matchText.getText(eventInfo);
 
-            isMatch = switch (matchType) {
+            isMatch = literalMatch != null ? literalMatch.isMatch(eventInfo, sourceText, matchType) : switch (matchType) {
                 case BeginsWith -> ignoreCase ? StringUtils.startsWithIgnoreCase(sourceText, matchText) : StringUtils.startsWith(sourceText, matchText);
                 case EndsWith -> ignoreCase ? StringUtils.endsWithIgnoreCase(sourceText, matchText) : StringUtils.endsWith(sourceText, matchText);
                 case Contains -> ignoreCase ? StringUtils.containsIgnoreCase(sourceText, matchText) : StringUtils.contains(sourceText, matchText);
                 case Equals -> ignoreCase ? StringUtils.equalsIgnoreCase(sourceText, matchText) : StringUtils.equals(sourceText, matchText);
-                case Regex -> TextUtils.isMatch(sourceText, matchText, ignoreCase);
+                case Regex -> TextUtils.isMatch(sourceText, this.matchText.getPattern(eventInfo, ignoreCase ? Pattern.CASE_INSENSITIVE : 0), eventInfo.getRegexTimeLimit());
                 case LessThan -> TextUtils.lessThan(sourceText, matchText);
                 case GreaterThan -> TextUtils.greaterThan(sourceText, matchText);
                 case LessThanOrEqual -> TextUtils.lessThan(sourceText, matchText) || TextUtils.textOrNumberEquals(sourceText, matchText, ignoreCase);
                 case GreaterThanOrEqual -> TextUtils.greaterThan(sourceText, matchText) || TextUtils.textOrNumberEquals(sourceText, matchText, ignoreCase);
             };
+        } catch (RegexTimeoutException e) {
+            regexTimeout = e;
         } catch (Exception ignored) {
         }
         if (eventInfo.getDiagnostics().isEnabled()) eventInfo.getDiagnostics().logCompare(
@@ -80,16 +95,49 @@ public class WhenMatchesText extends When<WhenMatchesText> implements IHttpRuleO
                         Pair.of("ignoreCase", ignoreCase)
                 ) : null, matchType, matchText, sourceText, isMatch
         );
+        if (regexTimeout != null) {
+            throw regexTimeout;
+        }
         return isMatch;
     }
 
+    private Boolean getRawBodyMatch(EventInfo eventInfo, LiteralMatch literalMatch) {
+        if (!useMessageValue || (messageValueType != MessageValueType.Text && messageValuePath != null) || !LiteralMatch.isSupported(matchType) || eventInfo.getDiagnostics().isEnabled()) {
+            return null;
+        }
+        HttpBody body = MessageValueHandler.getBody(eventInfo, messageValue);
+        if (body == null || body.isDecoded()) {
+            return null;
+        }
+        CharSequence latin1Text = body.getLatin1Text();
+        if (literalMatch != null) {
+            return latin1Text != null ? literalMatch.isMatch(eventInfo, latin1Text, matchType) : null;
+        }
+        String matchText = this.matchText.getText(eventInfo);
+        if (ignoreCase) {
+            return latin1Text == null ? null : switch (matchType) {
+                case BeginsWith -> StringUtils.startsWithIgnoreCase(latin1Text, matchText);
+                case EndsWith -> StringUtils.endsWithIgnoreCase(latin1Text, matchText);
+                case Contains -> StringUtils.containsIgnoreCase(latin1Text, matchText);
+                default -> StringUtils.equalsIgnoreCase(latin1Text, matchText);
+            };
+        }
+        byte[] matchBytes = body.getEncoder().encodeExact(matchText);
+        return matchBytes == null ? null : switch (matchType) {
+            case BeginsWith -> ByteSearch.startsWith(body.getValue(), matchBytes);
+            case EndsWith -> ByteSearch.endsWith(body.getValue(), matchBytes);
+            case Contains -> ByteSearch.contains(body.getValue(), matchBytes);
+            default -> ByteSearch.equals(body.getValue(), matchBytes);
+        };
+    }
+
     private String getPathValue(String value, EventInfo eventInfo) {
         if (messageValueType != MessageValueType.Text && messageValuePath != null)
         {
             switch (messageValueType) {
-                case Json -> value = TextUtils.getJsonPathValue(value, messageValuePath.getText(eventInfo));
-                case Html -> value = TextUtils.getCssSelectorValue(value, messageValuePath.getText(eventInfo));
-                case Params -> value = TextUtils.getParamValue(value, messageValuePath.getText(eventInfo));
+                case Json -> value = eventInfo.getDocumentCache().getJsonPathValue(value, messageValuePath.getText(eventInfo));
+                case Html -> value = eventInfo.getDocumentCache().getCssSelectorValue(value, messageValuePath.getText(eventInfo));
+                case Params -> value = eventInfo.getDocumentCache().getParamValue(value, messageValuePath.getText(eventInfo));
             }
         }
         return value;
@@ -0,0 +1,45 @@
+package synfron.reshaper.burp.core.rules.whens;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+public class WhenOptimizer {
+
+    public static CompiledWhen[] reorder(CompiledWhen[] whens) {
+        CompiledWhen[] reordered = new CompiledWhen[whens.length];
+        for (int whenIndex = 0; whenIndex < whens.length; whenIndex++) {
+            CompiledWhen when = whens[whenIndex];
+            reordered[whenIndex] = when.asTimed(when.isGroup() ? reorder(when.getGroup()) : null);
+        }
+        int runStart = 0;
+        for (int whenIndex = 0; whenIndex <= reordered.length; whenIndex++) {
+            boolean isEnd = whenIndex == reordered.length;
+            boolean isOr = !isEnd && whenIndex != 0 && reordered[whenIndex].getWhen().isUseOrCondition();
+            boolean isBarrier = !isEnd && (reordered[whenIndex].isGroup() || (whenIndex == 0 && reordered[whenIndex].getWhen().isUseOrCondition()));
+            if (isEnd || isOr || isBarrier) {
+                // A false result only defers to a following OR when it comes from the last AND condition before it,
+                // so that condition must keep its position.
+                int runEnd = isOr ? whenIndex - 1 : whenIndex;
+                if (runEnd - runStart > 1) {
+                    sortByCost(reordered, runStart, runEnd);
+                }
+                runStart = whenIndex + 1;
+            }
+        }
+        return reordered;
+    }
+
+    private static void sortByCost(CompiledWhen[] whens, int fromIndex, int toIndex) {
+        long[] costs = new long[toIndex - fromIndex];
+        Integer[] order = new Integer[costs.length];
+        for (int index = 0; index < costs.length; index++) {
+            costs[index] = whens[fromIndex + index].getTiming().getCost();
+            order[index] = index;
+        }
+        Arrays.sort(order, Comparator.comparingLong(index -> costs[index]));
+        CompiledWhen[] run = Arrays.copyOfRange(whens, fromIndex, toIndex);
+        for (int index = 0; index < order.length; index++) {
+            whens[fromIndex + index] = run[order[index]];
+        }
+    }
+}
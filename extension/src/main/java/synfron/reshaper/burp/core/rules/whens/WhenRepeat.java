@@ -3,6 +3,7 @@ package synfron.reshaper.burp.core.rules.whens;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.lang3.tuple.Pair;
+import synfron.reshaper.burp.core.exceptions.RegexTimeoutException;
 import synfron.reshaper.burp.core.messages.EventInfo;
 import synfron.reshaper.burp.core.rules.IHttpRuleOperation;
 import synfron.reshaper.burp.core.rules.IWebSocketRuleOperation;
@@ -29,11 +30,11 @@ public class WhenRepeat extends When<WhenRepeat> implements IHttpRuleOperation,
 
     @Override
     public boolean isMatch(EventInfo eventInfo) {
-        return isMatch(List.of(), eventInfo);
+        return isMatch(CompiledWhen.Empty, eventInfo);
     }
 
     @Override
-    public boolean isMatch(List<? extends When<?>> whensSubList, EventInfo eventInfo) {
+    public boolean isMatch(CompiledWhen[] whensSubList, EventInfo eventInfo) {
         boolean isMatch = false;
         String listVariableNameText = null;
         String entryVariableNameText = null;
@@ -58,7 +59,7 @@ public class WhenRepeat extends When<WhenRepeat> implements IHttpRuleOperation,
                     eventInfo.getDiagnostics().logGroupContainerStart();
                 }
                 int iterationCount = 0;
-                while (iterator.hasNext()) {
+                while (iterator.hasNext() && !eventInfo.skipIfOverBudget()) {
                     iterationCount++;
                     Object value = iterator.next();
                     Variable entryVariable = eventInfo.getVariables().add(Variables.asKey(entryVariableNameText, false));
@@ -75,6 +76,8 @@ public class WhenRepeat extends When<WhenRepeat> implements IHttpRuleOperation,
                 if (eventInfo.getDiagnostics().isEnabled())
                     eventInfo.getDiagnostics().logGroupContainerEnd();
             }
+        } catch (RegexTimeoutException e) {
+            throw e;
         } catch (Exception ignored) {
             isMatch = false;
         }
@@ -0,0 +1,29 @@
+package synfron.reshaper.burp.core.rules.whens;
+
+public class WhenTiming {
+    private static final int SampleInterval = 16;
+    private static final int MinSamples = 8;
+
+    private final long estimatedCost;
+    // Updated without synchronization. Lost updates only skew the estimate.
+    private int evaluations;
+    private int samples;
+    private long averageNanos;
+
+    public WhenTiming(long estimatedCost) {
+        this.estimatedCost = estimatedCost;
+    }
+
+    public boolean shouldSample() {
+        return (evaluations++ % SampleInterval) == 0;
+    }
+
+    public void record(long nanos) {
+        averageNanos = samples == 0 ? nanos : averageNanos + (nanos - averageNanos) / MinSamples;
+        samples++;
+    }
+
+    public long getCost() {
+        return samples >= MinSamples ? averageNanos : estimatedCost;
+    }
+}
@@ -1,30 +1,35 @@
 package synfron.reshaper.burp.core.rules.whens;
 
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import synfron.reshaper.burp.core.rules.RuleOperationType;
 
 import java.util.List;
 
 @EqualsAndHashCode(callSuper = true)
 public class WhenType<T extends When<T>> extends RuleOperationType<T> {
-    public static final WhenType<WhenEventDirection> EventDirection = new WhenType<>("Event Direction", WhenEventDirection.class);
-    public static final WhenType<WhenWebSocketEventDirection> WebSocketEventDirection = new WhenType<>("Event Direction", WhenWebSocketEventDirection.class);
-    public static final WhenType<WhenHasEntity> HasEntity = new WhenType<>("Has Entity", WhenHasEntity.class);
-    public static final WhenType<WhenMatchesText> MatchesText = new WhenType<>("Matches Text", WhenMatchesText.class);
-    public static final WhenType<WhenContentType> ContentType = new WhenType<>("Request Content Type", WhenContentType.class);
-    public static final WhenType<WhenMimeType> MimeType = new WhenType<>("Response MIME Type", WhenMimeType.class);
-    public static final WhenType<WhenMessageType> MessageType = new WhenType<>("Message Type", WhenMessageType.class);
-    public static final WhenType<WhenProxyName> ProxyName = new WhenType<>("Proxy Name", WhenProxyName.class);
-    public static final WhenType<WhenFromTool> FromTool = new WhenType<>("From Tool", WhenFromTool.class);
-    public static final WhenType<WhenInScope> InScope = new WhenType<>("In Scope", WhenInScope.class);
-    public static final WhenType<WhenRepeat> Repeat = new WhenType<>("Repeat", WhenRepeat.class);
+    public static final WhenType<WhenEventDirection> EventDirection = new WhenType<>("Event Direction", WhenEventDirection.class, 20);
+    public static final WhenType<WhenWebSocketEventDirection> WebSocketEventDirection = new WhenType<>("Event Direction", WhenWebSocketEventDirection.class, 20);
+    public static final WhenType<WhenHasEntity> HasEntity = new WhenType<>("Has Entity", WhenHasEntity.class, 1000);
+    public static final WhenType<WhenMatchesText> MatchesText = new WhenType<>("Matches Text", WhenMatchesText.class, 5000);
+    public static final WhenType<WhenContentType> ContentType = new WhenType<>("Request Content Type", WhenContentType.class, 200);
+    public static final WhenType<WhenMimeType> MimeType = new WhenType<>("Response MIME Type", WhenMimeType.class, 500);
+    public static final WhenType<WhenMessageType> MessageType = new WhenType<>("Message Type", WhenMessageType.class, 20);
+    public static final WhenType<WhenProxyName> ProxyName = new WhenType<>("Proxy Name", WhenProxyName.class, 50);
+    public static final WhenType<WhenFromTool> FromTool = new WhenType<>("From Tool", WhenFromTool.class, 20);
+    public static final WhenType<WhenInScope> InScope = new WhenType<>("In Scope", WhenInScope.class, 2000);
+    public static final WhenType<WhenRepeat> Repeat = new WhenType<>("Repeat", WhenRepeat.class, 10000);
+
+    @Getter
+    private final long estimatedCost;
 
     private WhenType() {
-        this(null, null);
+        this(null, null, 0);
     }
 
-    private WhenType(String name, Class<T> type) {
+    private WhenType(String name, Class<T> type, long estimatedCost) {
         super(name, type);
+        this.estimatedCost = estimatedCost;
     }
 
     public static List<WhenType<?>> getTypes() {
@@ -9,6 +9,7 @@ import synfron.reshaper.burp.core.events.IEventListener;
 import synfron.reshaper.burp.core.events.PropertyChangedArgs;
 import synfron.reshaper.burp.core.events.PropertyChangedEvent;
 import synfron.reshaper.burp.core.messages.Encoder;
+import synfron.reshaper.burp.core.utils.RegexEngine;
 
 import java.util.HashSet;
 
@@ -25,6 +26,11 @@ public class GeneralSettings {
     private boolean enableEventDiagnostics;
     private int diagnosticValueMaxLength = 200;
     private boolean enableSanityCheckWarnings = true;
+    private boolean enableWhenReordering;
+    private int eventTimeBudget;
+    private boolean forwardUnmodifiedOnBudgetOverrun;
+    private int regexTimeLimit = 2000;
+    private RegexEngine regexEngine = RegexEngine.Java;
     private boolean logInExtenderOutput = false;
     private int logTabCharacterLimit = 1000000;
     private String defaultEncoding = Encoder.getDefaultEncoderName();
@@ -54,6 +60,11 @@ public class GeneralSettings {
             this.enableEventDiagnostics = other.enableEventDiagnostics;
             this.diagnosticValueMaxLength = other.diagnosticValueMaxLength;
             this.enableSanityCheckWarnings = other.enableSanityCheckWarnings;
+            this.enableWhenReordering = other.enableWhenReordering;
+            this.eventTimeBudget = other.eventTimeBudget;
+            this.forwardUnmodifiedOnBudgetOverrun = other.forwardUnmodifiedOnBudgetOverrun;
+            this.regexTimeLimit = other.regexTimeLimit;
+            this.regexEngine = other.regexEngine;
             this.logInExtenderOutput = other.logInExtenderOutput;
             this.logTabCharacterLimit = other.logTabCharacterLimit;
             this.defaultEncoding = other.defaultEncoding;
@@ -144,6 +155,31 @@ public class GeneralSettings {
         propertyChanged("enableSanityCheckWarnings", enableSanityCheckWarnings);
     }
 
+    public void setEnableWhenReordering(boolean enableWhenReordering) {
+        this.enableWhenReordering = enableWhenReordering;
+        propertyChanged("enableWhenReordering", enableWhenReordering);
+    }
+
+    public void setEventTimeBudget(int eventTimeBudget) {
+        this.eventTimeBudget = eventTimeBudget;
+        propertyChanged("eventTimeBudget", eventTimeBudget);
+    }
+
+    public void setForwardUnmodifiedOnBudgetOverrun(boolean forwardUnmodifiedOnBudgetOverrun) {
+        this.forwardUnmodifiedOnBudgetOverrun = forwardUnmodifiedOnBudgetOverrun;
+        propertyChanged("forwardUnmodifiedOnBudgetOverrun", forwardUnmodifiedOnBudgetOverrun);
+    }
+
+    public void setRegexTimeLimit(int regexTimeLimit) {
+        this.regexTimeLimit = regexTimeLimit;
+        propertyChanged("regexTimeLimit", regexTimeLimit);
+    }
+
+    public void setRegexEngine(RegexEngine regexEngine) {
+        this.regexEngine = regexEngine;
+        propertyChanged("regexEngine", regexEngine);
+    }
+
     public void setLogTabCharacterLimit(int logTabCharacterLimit) {
         this.logTabCharacterLimit = logTabCharacterLimit;
         propertyChanged("logTabCharacterLimit", logTabCharacterLimit);
@@ -10,6 +10,7 @@ import synfron.reshaper.burp.core.events.IEventListener;
 import synfron.reshaper.burp.core.events.MessageEvent;
 import synfron.reshaper.burp.core.events.PropertyChangedArgs;
 import synfron.reshaper.burp.core.events.PropertyChangedEvent;
+import synfron.reshaper.burp.core.metrics.Metrics;
 import synfron.reshaper.burp.core.rules.RulesRegistry;
 import synfron.reshaper.burp.core.vars.GlobalVariables;
 
@@ -21,6 +22,8 @@ public class Workspace {
     @Getter
     private final GlobalVariables globalVariables = new GlobalVariables();
     @Getter
+    private final Metrics metrics = new Metrics();
+    @Getter
     private final HttpConnector httpConnector = new HttpConnector(this);
     @Getter
     private final WebSocketConnector webSocketConnector = new WebSocketConnector(this);
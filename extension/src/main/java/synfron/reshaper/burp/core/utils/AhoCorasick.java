@@ -0,0 +1,186 @@
+package synfron.reshaper.burp.core.utils;
+
+import lombok.Getter;
+
+import java.util.*;
+
+public class AhoCorasick {
+    private static final char[] NoChars = new char[0];
+    private static final int[] NoIndexes = new int[0];
+
+    @Getter
+    private final boolean ignoreCase;
+    private final int[] patternLengths;
+    private final char[][] edgeChars;
+    private final int[][] edgeStates;
+    private final int[] failureStates;
+    private final int[][] outputs;
+
+    public AhoCorasick(List<String> patterns, boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+        patternLengths = new int[patterns.size()];
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> trieOutputs = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        trieOutputs.add(new ArrayList<>());
+        for (int patternIndex = 0; patternIndex < patterns.size(); patternIndex++) {
+            String pattern = patterns.get(patternIndex);
+            patternLengths[patternIndex] = pattern.length();
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            int state = 0;
+            for (int index = 0; index < pattern.length(); index++) {
+                char c = fold(pattern.charAt(index));
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    trieOutputs.add(new ArrayList<>());
+                    trie.get(state).put(c, next);
+                }
+                state = next;
+            }
+            trieOutputs.get(state).add(patternIndex);
+        }
+
+        int stateCount = trie.size();
+        edgeChars = new char[stateCount][];
+        edgeStates = new int[stateCount][];
+        failureStates = new int[stateCount];
+        outputs = new int[stateCount][];
+        for (int state = 0; state < stateCount; state++) {
+            TreeMap<Character, Integer> edges = trie.get(state);
+            edgeChars[state] = edges.isEmpty() ? NoChars : new char[edges.size()];
+            edgeStates[state] = edges.isEmpty() ? NoIndexes : new int[edges.size()];
+            int edgeIndex = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[state][edgeIndex] = edge.getKey();
+                edgeStates[state][edgeIndex++] = edge.getValue();
+            }
+        }
+
+        Deque<Integer> queue = new ArrayDeque<>();
+        outputs[0] = NoIndexes;
+        for (int next : edgeStates[0]) {
+            queue.add(next);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            int failureState = failureStates[state];
+            List<Integer> stateOutputs = trieOutputs.get(state);
+            outputs[state] = new int[stateOutputs.size() + outputs[failureState].length];
+            for (int outputIndex = 0; outputIndex < stateOutputs.size(); outputIndex++) {
+                outputs[state][outputIndex] = stateOutputs.get(outputIndex);
+            }
+            System.arraycopy(outputs[failureState], 0, outputs[state], stateOutputs.size(), outputs[failureState].length);
+            if (outputs[state].length == 0) {
+                outputs[state] = NoIndexes;
+            }
+            for (int edgeIndex = 0; edgeIndex < edgeChars[state].length; edgeIndex++) {
+                char c = edgeChars[state][edgeIndex];
+                int next = edgeStates[state][edgeIndex];
+                int fallback = failureState;
+                int target;
+                while ((target = getNextState(fallback, c)) < 0 && fallback != 0) {
+                    fallback = failureStates[fallback];
+                }
+                failureStates[next] = target >= 0 ? target : 0;
+                queue.add(next);
+            }
+        }
+    }
+
+    public int size() {
+        return patternLengths.length;
+    }
+
+    public int getPatternLength(int patternIndex) {
+        return patternLengths[patternIndex];
+    }
+
+    public void search(CharSequence text, MatchConsumer consumer) {
+        int state = 0;
+        for (int index = 0; index < text.length(); index++) {
+            char c = fold(text.charAt(index));
+            int next;
+            while ((next = getNextState(state, c)) < 0 && state != 0) {
+                state = failureStates[state];
+            }
+            state = next >= 0 ? next : 0;
+            for (int patternIndex : outputs[state]) {
+                consumer.accept(patternIndex, index + 1);
+            }
+        }
+    }
+
+    public Matches getMatches(CharSequence text) {
+        Matches matches = new Matches(text);
+        int length = text.length();
+        search(text, (patternIndex, endIndex) -> {
+            matches.contained.set(patternIndex);
+            if (endIndex == patternLengths[patternIndex]) {
+                matches.beginning.set(patternIndex);
+            }
+            if (endIndex == length) {
+                matches.ending.set(patternIndex);
+            }
+        });
+        return matches;
+    }
+
+    private int getNextState(int state, char c) {
+        char[] chars = edgeChars[state];
+        int low = 0;
+        int high = chars.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char current = chars[middle];
+            if (current < c) {
+                low = middle + 1;
+            } else if (current > c) {
+                high = middle - 1;
+            } else {
+                return edgeStates[state][middle];
+            }
+        }
+        return -1;
+    }
+
+    private char fold(char c) {
+        return ignoreCase ? Character.toLowerCase(Character.toUpperCase(c)) : c;
+    }
+
+    @FunctionalInterface
+    public interface MatchConsumer {
+        void accept(int patternIndex, int endIndex);
+    }
+
+    public class Matches {
+        @Getter
+        private final CharSequence text;
+        private final BitSet contained = new BitSet();
+        private final BitSet beginning = new BitSet();
+        private final BitSet ending = new BitSet();
+
+        private Matches(CharSequence text) {
+            this.text = text;
+        }
+
+        public boolean contains(int patternIndex) {
+            return patternLengths[patternIndex] == 0 || contained.get(patternIndex);
+        }
+
+        public boolean beginsWith(int patternIndex) {
+            return patternLengths[patternIndex] == 0 || beginning.get(patternIndex);
+        }
+
+        public boolean endsWith(int patternIndex) {
+            return patternLengths[patternIndex] == 0 || ending.get(patternIndex);
+        }
+
+        public boolean isEqualTo(int patternIndex) {
+            return patternLengths[patternIndex] == text.length() && beginsWith(patternIndex);
+        }
+    }
+}
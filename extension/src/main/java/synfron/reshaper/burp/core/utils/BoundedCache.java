@@ -0,0 +1,84 @@
+package synfron.reshaper.burp.core.utils;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+public class BoundedCache<K, V> {
+    private final int capacity;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public BoundedCache(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            hits.increment();
+            entry.lastAccess = clock.incrementAndGet();
+            return entry.value;
+        }
+        misses.increment();
+        V value = loader.apply(key);
+        entries.put(key, new Entry<>(value, clock.incrementAndGet()));
+        if (entries.size() > capacity) {
+            evict();
+        }
+        return value;
+    }
+
+    private void evict() {
+        if (evictionLock.tryLock()) {
+            try {
+                int excess = entries.size() - (capacity - capacity / 8);
+                if (excess > 0) {
+                    entries.entrySet().stream()
+                            .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccess))
+                            .limit(excess)
+                            .map(Map.Entry::getKey)
+                            .toList()
+                            .forEach(entries::remove);
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public void clear() {
+        entries.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private volatile long lastAccess;
+
+        private Entry(V value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package synfron.reshaper.burp.core.utils;
+
+import java.util.Arrays;
+
+public class ByteSearch {
+    private static final int VectorThreshold = 64;
+    private static final String VectorModule = "jdk.incubator.vector";
+    private static final String VectorSearchClass = "synfron.reshaper.burp.core.utils.VectorByteSearch";
+    private static final byte[] HeaderTerminator = new byte[] { '\r', '\n', '\r', '\n' };
+    private static final byte[][] HeaderTerminators = new byte[][] { HeaderTerminator, new byte[] { '\n', '\n' } };
+    private static final IByteSearch VectorSearch = loadVectorSearch();
+
+    private static IByteSearch loadVectorSearch() {
+        if (ModuleLayer.boot().findModule(VectorModule).isEmpty()) {
+            return null;
+        }
+        try {
+            IByteSearch search = (IByteSearch) Class.forName(VectorSearchClass).getDeclaredConstructor().newInstance();
+            return search.isSupported() ? search : null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    public static boolean isVectorEnabled() {
+        return VectorSearch != null;
+    }
+
+    public static int indexOf(byte[] data, byte[] pattern) {
+        return indexOf(data, pattern, 0, data.length);
+    }
+
+    public static int indexOf(byte[] data, byte[] pattern, int fromIndex, int toIndex) {
+        if (pattern.length == 0) {
+            return fromIndex <= toIndex ? fromIndex : -1;
+        }
+        return VectorSearch != null && toIndex - fromIndex >= VectorThreshold ?
+                VectorSearch.indexOf(data, pattern, fromIndex, toIndex) :
+                scalarIndexOf(data, pattern, fromIndex, toIndex);
+    }
+
+    public static int indexOfAny(byte[] data, byte[][] patterns) {
+        return indexOfAny(data, patterns, 0, data.length);
+    }
+
+    public static int indexOfAny(byte[] data, byte[][] patterns, int fromIndex, int toIndex) {
+        for (byte[] pattern : patterns) {
+            if (pattern.length == 0) {
+                return fromIndex <= toIndex ? fromIndex : -1;
+            }
+        }
+        return VectorSearch != null && toIndex - fromIndex >= VectorThreshold ?
+                VectorSearch.indexOfAny(data, patterns, fromIndex, toIndex) :
+                scalarIndexOfAny(data, patterns, fromIndex, toIndex);
+    }
+
+    public static int getMatchingPattern(byte[] data, int index, byte[][] patterns, int toIndex) {
+        for (int patternIndex = 0; patternIndex < patterns.length; patternIndex++) {
+            byte[] pattern = patterns[patternIndex];
+            if (index + pattern.length <= toIndex && (pattern.length == 0 || data[index] == pattern[0] && regionMatches(data, index + 1, pattern, 1, pattern.length - 1))) {
+                return patternIndex;
+            }
+        }
+        return -1;
+    }
+
+    public static int getBodyOffset(byte[] message) {
+        int index = indexOfAny(message, HeaderTerminators);
+        return index >= 0 && getMatchingPattern(message, index, HeaderTerminators, message.length) == 0 ?
+                index + HeaderTerminator.length :
+                -1;
+    }
+
+    public static boolean contains(byte[] data, byte[] pattern) {
+        return indexOf(data, pattern) >= 0;
+    }
+
+    public static boolean startsWith(byte[] data, byte[] pattern) {
+        return data.length >= pattern.length && regionMatches(data, 0, pattern, 0, pattern.length);
+    }
+
+    public static boolean endsWith(byte[] data, byte[] pattern) {
+        return data.length >= pattern.length && regionMatches(data, data.length - pattern.length, pattern, 0, pattern.length);
+    }
+
+    public static boolean equals(byte[] data, byte[] pattern) {
+        return Arrays.equals(data, pattern);
+    }
+
+    static int scalarIndexOf(byte[] data, byte[] pattern, int fromIndex, int toIndex) {
+        byte first = pattern[0];
+        int last = toIndex - pattern.length;
+        for (int index = fromIndex; index <= last; index++) {
+            if (data[index] == first && regionMatches(data, index + 1, pattern, 1, pattern.length - 1)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    static int scalarIndexOfAny(byte[] data, byte[][] patterns, int fromIndex, int toIndex) {
+        for (int index = fromIndex; index < toIndex; index++) {
+            byte value = data[index];
+            for (byte[] pattern : patterns) {
+                if (pattern[0] == value && index + pattern.length <= toIndex && regionMatches(data, index + 1, pattern, 1, pattern.length - 1)) {
+                    return index;
+                }
+            }
+        }
+        return -1;
+    }
+
+    static boolean regionMatches(byte[] data, int dataOffset, byte[] pattern, int patternOffset, int length) {
+        return Arrays.equals(data, dataOffset, dataOffset + length, pattern, patternOffset, patternOffset + length);
+    }
+}
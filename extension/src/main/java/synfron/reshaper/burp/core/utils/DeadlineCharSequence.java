@@ -0,0 +1,45 @@
+package synfron.reshaper.burp.core.utils;
+
+import synfron.reshaper.burp.core.exceptions.RegexTimeoutException;
+
+import java.util.concurrent.TimeUnit;
+
+public class DeadlineCharSequence implements CharSequence {
+    private static final int CheckInterval = 1024;
+
+    private final CharSequence text;
+    private final String pattern;
+    private final long timeLimit;
+    private final long deadline;
+    private int reads;
+
+    public DeadlineCharSequence(CharSequence text, String pattern, long timeLimit) {
+        this.text = text;
+        this.pattern = pattern;
+        this.timeLimit = timeLimit;
+        this.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeLimit);
+    }
+
+    @Override
+    public int length() {
+        return text.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (++reads % CheckInterval == 0 && (System.nanoTime() - deadline > 0 || Thread.currentThread().isInterrupted())) {
+            throw new RegexTimeoutException(pattern, timeLimit);
+        }
+        return text.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return text.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return text.toString();
+    }
+}
@@ -0,0 +1,9 @@
+package synfron.reshaper.burp.core.utils;
+
+interface IByteSearch {
+    boolean isSupported();
+
+    int indexOf(byte[] data, byte[] pattern, int fromIndex, int toIndex);
+
+    int indexOfAny(byte[] data, byte[][] patterns, int fromIndex, int toIndex);
+}
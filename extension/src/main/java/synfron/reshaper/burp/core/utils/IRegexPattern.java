@@ -0,0 +1,17 @@
+package synfron.reshaper.burp.core.utils;
+
+import java.util.List;
+
+public interface IRegexPattern {
+    String pattern();
+
+    int flags();
+
+    RegexEngine getEngine();
+
+    boolean find(CharSequence text);
+
+    List<String> findAll(CharSequence text);
+
+    String replaceAll(CharSequence text, String replacement);
+}
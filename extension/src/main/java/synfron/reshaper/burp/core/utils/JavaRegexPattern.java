@@ -0,0 +1,44 @@
+package synfron.reshaper.burp.core.utils;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.regex.MatchResult;
+import java.util.regex.Pattern;
+
+public class JavaRegexPattern implements IRegexPattern {
+    @Getter
+    private final Pattern pattern;
+    @Getter
+    private final RegexEngine engine;
+
+    public JavaRegexPattern(Pattern pattern, RegexEngine engine) {
+        this.pattern = pattern;
+        this.engine = engine;
+    }
+
+    @Override
+    public String pattern() {
+        return pattern.pattern();
+    }
+
+    @Override
+    public int flags() {
+        return pattern.flags();
+    }
+
+    @Override
+    public boolean find(CharSequence text) {
+        return pattern.matcher(text).find();
+    }
+
+    @Override
+    public List<String> findAll(CharSequence text) {
+        return pattern.matcher(text).results().map(MatchResult::group).toList();
+    }
+
+    @Override
+    public String replaceAll(CharSequence text, String replacement) {
+        return pattern.matcher(text).replaceAll(replacement);
+    }
+}
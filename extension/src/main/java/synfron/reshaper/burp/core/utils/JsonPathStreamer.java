@@ -0,0 +1,143 @@
+package synfron.reshaper.burp.core.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import net.minidev.json.JSONValue;
+import net.minidev.json.parser.JSONParser;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class JsonPathStreamer {
+    public static final Object Unsupported = new Object();
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+    private static final BoundedCache<String, Object[]> segmentCache = new BoundedCache<>(1024);
+    private static final Object[] NoSegments = new Object[0];
+    private static final String InvalidNameChars = "()*?@,:'\" ]$";
+
+    public static Object read(String text, String jsonPath) {
+        Object[] segments = getSegments(jsonPath);
+        if (segments.length == 0) {
+            return Unsupported;
+        }
+        try (JsonParser parser = jsonFactory.createParser(text)) {
+            JsonToken token = parser.nextToken();
+            for (Object segment : segments) {
+                token = segment instanceof String name ?
+                        seekField(parser, token, name) :
+                        seekElement(parser, token, (Integer) segment);
+                if (token == null) {
+                    return null;
+                }
+            }
+            return readValue(parser, token, text);
+        } catch (Exception e) {
+            return Unsupported;
+        }
+    }
+
+    private static JsonToken seekField(JsonParser parser, JsonToken token, String name) throws Exception {
+        if (token != JsonToken.START_OBJECT) {
+            return null;
+        }
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            token = parser.nextToken();
+            if (name.equals(fieldName)) {
+                return token;
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+
+    private static JsonToken seekElement(JsonParser parser, JsonToken token, int index) throws Exception {
+        if (token != JsonToken.START_ARRAY) {
+            return null;
+        }
+        int position = 0;
+        while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+            if (position++ == index) {
+                return token;
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+
+    private static Object readValue(JsonParser parser, JsonToken token, String text) throws Exception {
+        return switch (token) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_TRUE -> true;
+            case VALUE_FALSE -> false;
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parse(parser.getText());
+            case START_OBJECT, START_ARRAY -> {
+                int start = (int) parser.currentTokenLocation().getCharOffset();
+                parser.skipChildren();
+                int end = (int) parser.currentLocation().getCharOffset();
+                yield parse(text.substring(start, end));
+            }
+            default -> Unsupported;
+        };
+    }
+
+    private static Object parse(String json) throws Exception {
+        return new JSONParser(JSONParser.MODE_PERMISSIVE).parse(json, JSONValue.defaultReader.DEFAULT_ORDERED);
+    }
+
+    private static Object[] getSegments(String jsonPath) {
+        return jsonPath != null ? segmentCache.get(jsonPath, JsonPathStreamer::parseSegments) : NoSegments;
+    }
+
+    private static Object[] parseSegments(String jsonPath) {
+        if (!jsonPath.startsWith("$")) {
+            return NoSegments;
+        }
+        List<Object> segments = new ArrayList<>();
+        int index = 1;
+        while (index < jsonPath.length()) {
+            char c = jsonPath.charAt(index);
+            if (c == '.') {
+                int end = index + 1;
+                while (end < jsonPath.length() && jsonPath.charAt(end) != '.' && jsonPath.charAt(end) != '[') {
+                    end++;
+                }
+                String name = jsonPath.substring(index + 1, end);
+                if (!isValidName(name)) {
+                    return NoSegments;
+                }
+                segments.add(name);
+                index = end;
+            } else if (c == '[') {
+                int end = jsonPath.indexOf(']', index);
+                if (end < 0) {
+                    return NoSegments;
+                }
+                String selector = jsonPath.substring(index + 1, end);
+                if (selector.length() > 2 && (selector.charAt(0) == '\'' || selector.charAt(0) == '"') && selector.charAt(selector.length() - 1) == selector.charAt(0)) {
+                    String name = selector.substring(1, selector.length() - 1);
+                    if (!isValidName(name)) {
+                        return NoSegments;
+                    }
+                    segments.add(name);
+                } else if (StringUtils.isNumeric(selector) && selector.length() < 10) {
+                    segments.add(Integer.parseInt(selector));
+                } else {
+                    return NoSegments;
+                }
+                index = end + 1;
+            } else {
+                return NoSegments;
+            }
+        }
+        return segments.toArray();
+    }
+
+    private static boolean isValidName(String name) {
+        return !name.isEmpty() && StringUtils.containsNone(name, InvalidNameChars) && name.indexOf('\\') < 0;
+    }
+}
@@ -0,0 +1,45 @@
+package synfron.reshaper.burp.core.utils;
+
+import java.nio.charset.StandardCharsets;
+
+public class Latin1CharSequence implements CharSequence {
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+
+    public Latin1CharSequence(byte[] bytes) {
+        this(bytes, 0, bytes.length);
+    }
+
+    public Latin1CharSequence(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (char) (bytes[offset + index] & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException(String.format("start %s, end %s, length %s", start, end, length));
+        }
+        return new Latin1CharSequence(bytes, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+    }
+}
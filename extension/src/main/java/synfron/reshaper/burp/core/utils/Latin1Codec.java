@@ -0,0 +1,30 @@
+package synfron.reshaper.burp.core.utils;
+
+import java.nio.charset.StandardCharsets;
+
+public class Latin1Codec {
+    private static final byte[] NoBytes = new byte[0];
+
+    public static byte[] encode(String text) {
+        if (text == null || text.isEmpty()) {
+            return NoBytes;
+        }
+        byte[] bytes = new byte[text.length()];
+        encode(text, bytes, 0);
+        return bytes;
+    }
+
+    @SuppressWarnings("deprecation")
+    public static int encode(String text, byte[] buffer, int offset) {
+        text.getBytes(0, text.length(), buffer, offset);
+        return offset + text.length();
+    }
+
+    public static String decode(byte[] data) {
+        return data != null ? new String(data, StandardCharsets.ISO_8859_1) : "";
+    }
+
+    public static String decode(byte[] data, int offset, int length) {
+        return new String(data, offset, length, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,66 @@
+package synfron.reshaper.burp.core.utils;
+
+import com.google.re2j.Matcher;
+import com.google.re2j.Pattern;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class LinearRegexPattern implements IRegexPattern {
+    private final Pattern pattern;
+    private final int flags;
+
+    public LinearRegexPattern(String regex, int flags) {
+        this.pattern = Pattern.compile(regex, toLinearFlags(flags));
+        this.flags = flags;
+    }
+
+    private static int toLinearFlags(int flags) {
+        int linearFlags = 0;
+        if ((flags & java.util.regex.Pattern.CASE_INSENSITIVE) != 0) {
+            linearFlags |= Pattern.CASE_INSENSITIVE;
+        }
+        if ((flags & java.util.regex.Pattern.DOTALL) != 0) {
+            linearFlags |= Pattern.DOTALL;
+        }
+        if ((flags & java.util.regex.Pattern.MULTILINE) != 0) {
+            linearFlags |= Pattern.MULTILINE;
+        }
+        return linearFlags;
+    }
+
+    @Override
+    public String pattern() {
+        return pattern.pattern();
+    }
+
+    @Override
+    public int flags() {
+        return flags;
+    }
+
+    @Override
+    public RegexEngine getEngine() {
+        return RegexEngine.Linear;
+    }
+
+    @Override
+    public boolean find(CharSequence text) {
+        return pattern.matcher(text).find();
+    }
+
+    @Override
+    public List<String> findAll(CharSequence text) {
+        Matcher matcher = pattern.matcher(text);
+        List<String> values = new ArrayList<>();
+        while (matcher.find()) {
+            values.add(matcher.group());
+        }
+        return values;
+    }
+
+    @Override
+    public String replaceAll(CharSequence text, String replacement) {
+        return pattern.matcher(text).replaceAll(replacement);
+    }
+}
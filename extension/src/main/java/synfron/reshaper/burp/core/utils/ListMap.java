@@ -1,8 +1,5 @@
 package synfron.reshaper.burp.core.utils;
 
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.Setter;
 import org.apache.commons.lang3.tuple.Pair;
 import synfron.reshaper.burp.core.rules.DeleteItemPlacement;
 import synfron.reshaper.burp.core.rules.GetItemPlacement;
@@ -12,18 +9,26 @@ import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 public class ListMap<K, V> {
+    private static final int InitialCapacity = 8;
+    private static final int MinCompactionGap = 16;
+    private static final Object Removed = new Object();
+
+    private final HashMap<K, Chain> index = new HashMap<>();
+    private Object[] nodeKeys = new Object[InitialCapacity];
+    private Object[] nodeValues = new Object[InitialCapacity];
+    private int[] nextNodes = new int[InitialCapacity];
+    private int[] previousNodes = new int[InitialCapacity];
+    private int nodeEnd;
     private int nodeCount;
-    private final HashMap<K, List<OrderedNode>> backingMap = new HashMap<>();
 
     public void setLastOrAdd(K key, V value) {
-        List<OrderedNode> values = backingMap.computeIfAbsent(key, k -> new ArrayList<>(1));
-        if (values.isEmpty()) {
-            values.add(createNode(key, value));
+        Chain chain = index.get(key);
+        if (chain == null) {
+            add(key, value);
         } else {
-            values.get(values.size() - 1).set(key, value);
+            set(chain.tail, key, value);
         }
     }
 
@@ -45,133 +50,107 @@ public class ListMap<K, V> {
     }
 
     public void computeLastWhereOrAdd(K key, Predicate<V> predicate, Function<V, V> compute) {
-        List<OrderedNode> values = backingMap.computeIfAbsent(key, k -> new ArrayList<>(1)).stream()
-                .filter(node -> predicate.test(node.getValue()))
-                .toList();
-        if (values.isEmpty()) {
-            values.add(createNode(key, compute.apply(null)));
+        int node = findLast(key, predicate);
+        if (node < 0) {
+            add(key, compute.apply(null));
         } else {
-            OrderedNode node = values.get(values.size() - 1);
-            V value = node.getValue();
-            V newValue = compute.apply(value);
-            if (value != newValue) {
-                node.setValue(newValue);
-            }
+            compute(node, compute);
         }
     }
 
     public V getLastWhere(K key, Predicate<V> predicate) {
-        List<OrderedNode> values = backingMap.computeIfAbsent(key, k -> new ArrayList<>(1)).stream()
-                .filter(node -> predicate.test(node.getValue()))
-                .toList();
-        if (!values.isEmpty()) {
-            OrderedNode node = values.get(values.size() - 1);
-            return node.getValue();
-        }
-        return null;
+        int node = findLast(key, predicate);
+        return node >= 0 ? getValue(node) : null;
     }
 
     public void computeFirstWhereOrAdd(K key, Predicate<V> predicate, Function<V, V> compute) {
-        List<OrderedNode> values = backingMap.computeIfAbsent(key, k -> new ArrayList<>(1)).stream()
-                .filter(node -> predicate.test(node.getValue()))
-                .toList();
-        if (values.isEmpty()) {
-            values.add(createNode(key, compute.apply(null)));
+        int node = findFirst(key, predicate);
+        if (node < 0) {
+            add(key, compute.apply(null));
         } else {
-            OrderedNode node = values.getFirst();
-            V value = node.getValue();
-            V newValue = compute.apply(value);
-            if (value != newValue) {
-                node.setValue(newValue);
-            }
+            compute(node, compute);
         }
     }
 
     public V getFirstWhere(K key, Predicate<V> predicate) {
-        List<OrderedNode> values = backingMap.computeIfAbsent(key, k -> new ArrayList<>(1)).stream()
-                .filter(node -> predicate.test(node.getValue()))
-                .toList();
-        if (!values.isEmpty()) {
-            OrderedNode node = values.getFirst();
-            return node.getValue();
-        }
-        return null;
+        int node = findFirst(key, predicate);
+        return node >= 0 ? getValue(node) : null;
     }
 
     public void computeAllWhereOrAdd(K key, Predicate<V> predicate, Function<V, V> compute) {
-        List<OrderedNode> values = backingMap.computeIfAbsent(key, k -> new ArrayList<>(1)).stream()
-                .filter(node -> predicate.test(node.getValue()))
-                .toList();
-        if (values.isEmpty()) {
-            values.add(createNode(key, compute.apply(null)));
+        int node = findFirst(key, predicate);
+        if (node < 0) {
+            add(key, compute.apply(null));
         } else {
-            values.forEach(node -> {
-                V value = node.getValue();
-                V newValue = compute.apply(value);
-                if (value != newValue) {
-                    node.setValue(newValue);
+            for (; node >= 0; node = nextNodes[node]) {
+                if (predicate.test(getValue(node))) {
+                    compute(node, compute);
                 }
-            });
+            }
         }
     }
 
     public void computeOnlyWhereOrAdd(K key, Predicate<V> predicate, Function<V, V> compute) {
-        List<OrderedNode> values = backingMap.computeIfAbsent(key, k -> new ArrayList<>(1)).stream()
-                .filter(node -> predicate.test(node.getValue()))
-                .toList();
-        if (values.isEmpty()) {
-            values.add(createNode(key, compute.apply(null)));
+        int node = findFirst(key, predicate);
+        if (node < 0) {
+            add(key, compute.apply(null));
         } else {
-            List<OrderedNode> nodesToRemove = CollectionUtils.subList(values, 1, values.size() - 1);
-            backingMap.get(key).removeAll(nodesToRemove);
-            OrderedNode node = values.getFirst();
-            V value = node.getValue();
-            V newValue = compute.apply(value);
-            if (value != newValue) {
-                node.setValue(newValue);
+            Chain chain = index.get(key);
+            for (int next = nextNodes[node]; next >= 0; ) {
+                int current = next;
+                next = nextNodes[current];
+                if (predicate.test(getValue(current))) {
+                    unlink(key, chain, current);
+                }
             }
-            nodeCount -= nodesToRemove.size();
+            compute(node, compute);
+            compactIfNeeded();
         }
     }
 
     public void setAllOrAdd(K key, V value) {
-        List<OrderedNode> values = backingMap.computeIfAbsent(key, k -> new ArrayList<>(1));
-        if (values.isEmpty()) {
-            values.add(createNode(key, value));
+        Chain chain = index.get(key);
+        if (chain == null) {
+            add(key, value);
         } else {
-            for (OrderedNode node : values) {
-                node.set(key, value);
+            for (int node = chain.head; node >= 0; node = nextNodes[node]) {
+                set(node, key, value);
             }
         }
     }
 
     public void setFirstOrAdd(K key, V value) {
-        List<OrderedNode> values = backingMap.computeIfAbsent(key, k -> new ArrayList<>(1));
-        if (values.isEmpty()) {
-            values.add(createNode(key, value));
+        Chain chain = index.get(key);
+        if (chain == null) {
+            add(key, value);
         } else {
-            values.getFirst().set(key, value);
+            set(chain.head, key, value);
         }
     }
 
     public void setOnly(K key, V value) {
-        List<OrderedNode> values = backingMap.computeIfAbsent(key, k -> new ArrayList<>(1));
-        OrderedNode node;
-        if (values.isEmpty()) {
-            node = createNode(key, value);
+        Chain chain = index.get(key);
+        if (chain == null) {
+            add(key, value);
         } else {
-            node = values.getFirst();
-            node.set(key, value);
-            nodeCount -= values.size();
-            values.clear();
+            int node = chain.head;
+            while (chain.tail != node) {
+                unlink(key, chain, chain.tail);
+            }
+            set(node, key, value);
+            compactIfNeeded();
         }
-        values.add(node);
-        nodeCount++;
     }
 
     public void add(K key, V value) {
-        List<OrderedNode> values = backingMap.computeIfAbsent(key, k -> new ArrayList<>(1));
-        values.add(createNode(key, value));
+        if (nodeEnd == nodeKeys.length) {
+            grow();
+        }
+        int node = nodeEnd++;
+        nodeKeys[node] = key;
+        nodeValues[node] = value;
+        link(index.computeIfAbsent(key, k -> new Chain()), node);
+        nodeCount++;
     }
 
     public void setOrAdd(K key, V value, SetItemPlacement itemPlacement) {
@@ -185,19 +164,25 @@ public class ListMap<K, V> {
     }
 
     public V getFirst(K key) {
-        List<OrderedNode> nodes = backingMap.get(key);
-        return CollectionUtils.hasAny(nodes) ? nodes.getFirst().getValue() : null;
+        Chain chain = index.get(key);
+        return chain != null ? getValue(chain.head) : null;
     }
 
     public V getLast(K key) {
-        List<OrderedNode> nodes = backingMap.get(key);
-        return CollectionUtils.hasAny(nodes) ? nodes.get(nodes.size() - 1).getValue() : null;
+        Chain chain = index.get(key);
+        return chain != null ? getValue(chain.tail) : null;
     }
 
     public List<V> getAll(K key) {
-        return CollectionUtils.defaultIfNull(backingMap.get(key)).stream()
-                .map(OrderedNode::getValue)
-                .toList();
+        Chain chain = index.get(key);
+        if (chain == null) {
+            return List.of();
+        }
+        List<V> values = new ArrayList<>(chain.count);
+        for (int node = chain.head; node >= 0; node = nextNodes[node]) {
+            values.add(getValue(node));
+        }
+        return values;
     }
 
     public V get(K key, GetItemPlacement itemPlacement) {
@@ -208,95 +193,73 @@ public class ListMap<K, V> {
     }
 
     public List<Pair<K, V>> entries() {
-        return backingMap.entrySet().stream()
-                .flatMap(entry -> entry.getValue().stream())
-                .sorted(Comparator.comparingInt(OrderedNode::getOrder))
-                .map(node -> Pair.of(node.getKey(), node.getValue()))
-                .collect(Collectors.toList());
+        return entries(Pair::of);
     }
 
+    @SuppressWarnings("unchecked")
     public <T> List<T> entries(BiFunction<K, V, T> entryGetter) {
-        return backingMap.entrySet().stream()
-                .flatMap(entry -> entry.getValue().stream())
-                .sorted(Comparator.comparingInt(OrderedNode::getOrder))
-                .map(node -> entryGetter.apply(node.getKey(), node.getValue()))
-                .collect(Collectors.toList());
-    }
-
-    private OrderedNode createNode(K key, V value) {
-        return new OrderedNode(key, value, ++nodeCount);
+        List<T> entries = new ArrayList<>(nodeCount);
+        for (int node = 0; node < nodeEnd; node++) {
+            if (nodeKeys[node] != Removed) {
+                entries.add(entryGetter.apply((K) nodeKeys[node], getValue(node)));
+            }
+        }
+        return entries;
     }
 
     public void removeAll(K key) {
-        List<OrderedNode> nodes = backingMap.get(key);
-        if (nodes != null) {
-            nodeCount -= nodes.size();
-            backingMap.remove(key);
+        Chain chain = index.get(key);
+        if (chain != null) {
+            while (chain.count > 0) {
+                unlink(key, chain, chain.tail);
+            }
+            compactIfNeeded();
         }
     }
 
     public void removeAllWhere(K key, Predicate<V> predicate) {
-        List<OrderedNode> nodes = backingMap.get(key);
-        if (nodes != null) {
-            List<OrderedNode> removeNodes = nodes.stream().filter(node -> predicate.test(node.getValue())).toList();
-            nodeCount -= removeNodes.size();
-            if (nodes.size() == removeNodes.size()) {
-                backingMap.remove(key);
-            } else {
-                nodes.removeAll(removeNodes);
+        Chain chain = index.get(key);
+        if (chain != null) {
+            for (int node = chain.head; node >= 0; ) {
+                int current = node;
+                node = nextNodes[current];
+                if (predicate.test(getValue(current))) {
+                    unlink(key, chain, current);
+                }
             }
+            compactIfNeeded();
         }
     }
 
     public void removeFirst(K key) {
-        List<OrderedNode> nodes = backingMap.get(key);
-        if (CollectionUtils.hasAny(nodes)) {
-            if (nodes.size() == 1) {
-                backingMap.remove(key);
-            } else {
-                nodes.remove(0);
-            }
-            nodeCount--;
+        Chain chain = index.get(key);
+        if (chain != null) {
+            unlink(key, chain, chain.head);
+            compactIfNeeded();
         }
     }
 
     public void removeFirstWhere(K key, Predicate<V> predicate) {
-        List<OrderedNode> nodes = backingMap.get(key);
-        if (nodes != null) {
-            List<OrderedNode> removeNodes = nodes.stream().filter(node -> predicate.test(node.getValue())).toList();
-            if (!removeNodes.isEmpty()) {
-                nodeCount -= 1;
-                nodes.remove(removeNodes.getFirst());
-                if (nodes.isEmpty()) {
-                    backingMap.remove(key);
-                }
-            }
+        int node = findFirst(key, predicate);
+        if (node >= 0) {
+            unlink(key, index.get(key), node);
+            compactIfNeeded();
         }
     }
 
     public void removeLast(K key) {
-        List<OrderedNode> nodes = backingMap.get(key);
-        if (CollectionUtils.hasAny(nodes)) {
-            if (nodes.size() == 1) {
-                backingMap.remove(key);
-            } else {
-                nodes.remove(nodes.size() - 1);
-            }
-            nodeCount--;
+        Chain chain = index.get(key);
+        if (chain != null) {
+            unlink(key, chain, chain.tail);
+            compactIfNeeded();
         }
     }
 
     public void removeLastWhere(K key, Predicate<V> predicate) {
-        List<OrderedNode> nodes = backingMap.get(key);
-        if (nodes != null) {
-            List<OrderedNode> removeNodes = nodes.stream().filter(node -> predicate.test(node.getValue())).toList();
-            if (!removeNodes.isEmpty()) {
-                nodeCount -= 1;
-                nodes.remove(removeNodes.get(removeNodes.size() - 1));
-                if (nodes.isEmpty()) {
-                    backingMap.remove(key);
-                }
-            }
+        int node = findLast(key, predicate);
+        if (node >= 0) {
+            unlink(key, index.get(key), node);
+            compactIfNeeded();
         }
     }
 
@@ -317,38 +280,128 @@ public class ListMap<K, V> {
     }
 
     public boolean containsKey(K key) {
-        return backingMap.containsKey(key);
+        return index.containsKey(key);
     }
 
     public Set<K> keys() {
-        return backingMap.keySet();
+        return index.keySet();
     }
 
     public int size() {
         return nodeCount;
     }
 
-    @Getter
-    @Setter
-    @AllArgsConstructor
-    private class Node {
-        private K key;
-        private V value;
+    @SuppressWarnings("unchecked")
+    private V getValue(int node) {
+        return (V) nodeValues[node];
+    }
+
+    private void set(int node, K key, V value) {
+        nodeKeys[node] = key;
+        nodeValues[node] = value;
+    }
+
+    private void compute(int node, Function<V, V> compute) {
+        V value = getValue(node);
+        V newValue = compute.apply(value);
+        if (value != newValue) {
+            nodeValues[node] = newValue;
+        }
+    }
+
+    private int findFirst(K key, Predicate<V> predicate) {
+        Chain chain = index.get(key);
+        if (chain != null) {
+            for (int node = chain.head; node >= 0; node = nextNodes[node]) {
+                if (predicate.test(getValue(node))) {
+                    return node;
+                }
+            }
+        }
+        return -1;
+    }
 
-        public void set(K key, V value) {
-            this.key = key;
-            this.value = value;
+    private int findLast(K key, Predicate<V> predicate) {
+        Chain chain = index.get(key);
+        if (chain != null) {
+            for (int node = chain.tail; node >= 0; node = previousNodes[node]) {
+                if (predicate.test(getValue(node))) {
+                    return node;
+                }
+            }
         }
+        return -1;
     }
 
-    @Getter
-    @Setter
-    private class OrderedNode extends Node {
-        private final int order;
+    private void link(Chain chain, int node) {
+        nextNodes[node] = -1;
+        previousNodes[node] = chain.tail;
+        if (chain.tail >= 0) {
+            nextNodes[chain.tail] = node;
+        } else {
+            chain.head = node;
+        }
+        chain.tail = node;
+        chain.count++;
+    }
 
-        private OrderedNode(K key, V value, int order) {
-            super(key, value);
-            this.order = order;
+    private void unlink(K key, Chain chain, int node) {
+        int previous = previousNodes[node];
+        int next = nextNodes[node];
+        if (previous >= 0) {
+            nextNodes[previous] = next;
+        } else {
+            chain.head = next;
         }
+        if (next >= 0) {
+            previousNodes[next] = previous;
+        } else {
+            chain.tail = previous;
+        }
+        if (--chain.count == 0) {
+            index.remove(key);
+        }
+        nodeKeys[node] = Removed;
+        nodeValues[node] = null;
+        nodeCount--;
+    }
+
+    private void grow() {
+        int capacity = nodeKeys.length * 2;
+        nodeKeys = Arrays.copyOf(nodeKeys, capacity);
+        nodeValues = Arrays.copyOf(nodeValues, capacity);
+        nextNodes = Arrays.copyOf(nextNodes, capacity);
+        previousNodes = Arrays.copyOf(previousNodes, capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void compactIfNeeded() {
+        int gap = nodeEnd - nodeCount;
+        if (gap < MinCompactionGap || gap < nodeCount) {
+            return;
+        }
+        for (Chain chain : index.values()) {
+            chain.head = -1;
+            chain.tail = -1;
+            chain.count = 0;
+        }
+        int compactedEnd = 0;
+        for (int node = 0; node < nodeEnd; node++) {
+            if (nodeKeys[node] != Removed) {
+                nodeKeys[compactedEnd] = nodeKeys[node];
+                nodeValues[compactedEnd] = nodeValues[node];
+                link(index.get((K) nodeKeys[compactedEnd]), compactedEnd);
+                compactedEnd++;
+            }
+        }
+        Arrays.fill(nodeKeys, compactedEnd, nodeEnd, null);
+        Arrays.fill(nodeValues, compactedEnd, nodeEnd, null);
+        nodeEnd = compactedEnd;
+    }
+
+    private static class Chain {
+        private int head = -1;
+        private int tail = -1;
+        private int count;
     }
 }
@@ -0,0 +1,223 @@
+package synfron.reshaper.burp.core.utils;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class RegexAnalyzer {
+    private static final int MaxSafeRepetitions = 10;
+
+    public static List<String> analyze(String regex) {
+        List<String> warnings = new ArrayList<>();
+        if (StringUtils.isEmpty(regex)) {
+            return warnings;
+        }
+        Deque<Group> groups = new ArrayDeque<>();
+        groups.push(new Group(0, false));
+        int index = 0;
+        while (index < regex.length()) {
+            char c = regex.charAt(index);
+            Group group = groups.peek();
+            int atomEnd;
+            String atom;
+            boolean atomRepeats = false;
+            boolean atomic = false;
+            Group closedGroup = null;
+            if (c == '\\') {
+                atomEnd = getEscapeEnd(regex, index);
+                atom = regex.substring(index, atomEnd);
+            } else if (c == '[') {
+                atomEnd = getClassEnd(regex, index);
+                atom = regex.substring(index, atomEnd);
+            } else if (c == '(') {
+                if (regex.startsWith("(?", index) && isInlineFlags(regex, index)) {
+                    index = regex.indexOf(')', index) + 1;
+                    continue;
+                }
+                groups.push(new Group(index, regex.startsWith("(?>", index)));
+                index = getGroupContentStart(regex, index);
+                continue;
+            } else if (c == ')' && groups.size() > 1) {
+                closedGroup = groups.pop();
+                group = groups.peek();
+                atomEnd = index + 1;
+                atom = regex.substring(closedGroup.start, atomEnd);
+                atomRepeats = closedGroup.hasRepeatingQuantifier && !closedGroup.atomic;
+                atomic = closedGroup.atomic;
+            } else if (c == '|') {
+                group.alternativeStarted = false;
+                index++;
+                continue;
+            } else {
+                atomEnd = index + 1;
+                atom = regex.substring(index, atomEnd);
+            }
+
+            Quantifier quantifier = getQuantifier(regex, atomEnd);
+            if (closedGroup != null && quantifier.unbounded && !atomic) {
+                if (closedGroup.hasRepeatingQuantifier) {
+                    warnings.add(String.format("Nested quantifier in '%s' at position %s may cause catastrophic backtracking", atom + quantifier.text, closedGroup.start));
+                } else if (closedGroup.hasOverlappingAlternatives()) {
+                    warnings.add(String.format("Repeated alternatives in '%s' at position %s overlap and may cause catastrophic backtracking", atom + quantifier.text, closedGroup.start));
+                }
+            }
+            group.hasRepeatingQuantifier |= atomRepeats || quantifier.repeating;
+            if (!group.alternativeStarted) {
+                group.alternativeStarted = true;
+                group.firstAtoms.add(closedGroup != null ? getFirstAtom(closedGroup, atom) : atom);
+            }
+            index = atomEnd + quantifier.text.length();
+        }
+        return warnings;
+    }
+
+    private static String getFirstAtom(Group group, String atom) {
+        return group.firstAtoms.size() == 1 ? group.firstAtoms.get(0) : atom;
+    }
+
+    private static boolean isInlineFlags(String regex, int index) {
+        int end = regex.indexOf(')', index);
+        if (end < 0) {
+            return false;
+        }
+        String flags = regex.substring(index + 2, end);
+        return !flags.isEmpty() && StringUtils.containsOnly(flags, "idmsuxU-");
+    }
+
+    private static int getGroupContentStart(String regex, int index) {
+        if (!regex.startsWith("(?", index)) {
+            return index + 1;
+        }
+        if (regex.startsWith("(?<=", index) || regex.startsWith("(?<!", index)) {
+            return index + 4;
+        }
+        if (regex.startsWith("(?<", index)) {
+            int end = regex.indexOf('>', index);
+            return end >= 0 ? end + 1 : index + 3;
+        }
+        int colon = regex.indexOf(':', index);
+        if (colon >= 0 && StringUtils.containsOnly(regex.substring(index + 2, colon), "idmsuxU-")) {
+            return colon + 1;
+        }
+        return index + 3;
+    }
+
+    private static int getEscapeEnd(String regex, int index) {
+        if (index + 1 >= regex.length()) {
+            return regex.length();
+        }
+        char escaped = regex.charAt(index + 1);
+        if ((escaped == 'p' || escaped == 'P') && index + 2 < regex.length() && regex.charAt(index + 2) == '{') {
+            int end = regex.indexOf('}', index);
+            return end >= 0 ? end + 1 : regex.length();
+        }
+        if (escaped == 'Q') {
+            int end = regex.indexOf("\\E", index);
+            return end >= 0 ? end + 2 : regex.length();
+        }
+        return index + 2;
+    }
+
+    private static int getClassEnd(String regex, int index) {
+        int depth = 0;
+        int position = index;
+        while (position < regex.length()) {
+            char c = regex.charAt(position);
+            if (c == '\\') {
+                position += 2;
+                continue;
+            }
+            if (c == '[') {
+                depth++;
+            } else if (c == ']' && position > index + 1 && !(position == index + 2 && regex.charAt(index + 1) == '^')) {
+                if (--depth == 0) {
+                    return position + 1;
+                }
+            }
+            position++;
+        }
+        return regex.length();
+    }
+
+    private static Quantifier getQuantifier(String regex, int index) {
+        if (index >= regex.length()) {
+            return Quantifier.None;
+        }
+        char c = regex.charAt(index);
+        int end;
+        boolean repeating;
+        boolean unbounded;
+        if (c == '*' || c == '+') {
+            end = index + 1;
+            repeating = true;
+            unbounded = true;
+        } else if (c == '?') {
+            end = index + 1;
+            repeating = false;
+            unbounded = false;
+        } else if (c == '{') {
+            int close = regex.indexOf('}', index);
+            String range = close >= 0 ? regex.substring(index + 1, close) : "";
+            if (!range.matches("\\d+(,\\d*)?")) {
+                return Quantifier.None;
+            }
+            end = close + 1;
+            String max = range.contains(",") ? StringUtils.substringAfter(range, ",") : range;
+            Integer maxRepetitions = TextUtils.asInt(max);
+            unbounded = maxRepetitions == null || maxRepetitions > MaxSafeRepetitions;
+            repeating = unbounded || maxRepetitions > 1;
+        } else {
+            return Quantifier.None;
+        }
+        boolean possessive = end < regex.length() && regex.charAt(end) == '+';
+        if (end < regex.length() && (regex.charAt(end) == '?' || possessive)) {
+            end++;
+        }
+        return new Quantifier(regex.substring(index, end), repeating && !possessive, unbounded && !possessive);
+    }
+
+    private static class Group {
+        private final int start;
+        private final boolean atomic;
+        private final List<String> firstAtoms = new ArrayList<>();
+        private boolean alternativeStarted;
+        private boolean hasRepeatingQuantifier;
+
+        private Group(int start, boolean atomic) {
+            this.start = start;
+            this.atomic = atomic;
+        }
+
+        private boolean hasOverlappingAlternatives() {
+            if (firstAtoms.size() < 2) {
+                return false;
+            }
+            Set<String> atoms = new HashSet<>();
+            for (String atom : firstAtoms) {
+                if (atom.equals(".") || !atoms.add(atom)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static class Quantifier {
+        private static final Quantifier None = new Quantifier("", false, false);
+
+        private final String text;
+        private final boolean repeating;
+        private final boolean unbounded;
+
+        private Quantifier(String text, boolean repeating, boolean unbounded) {
+            this.text = text;
+            this.repeating = repeating;
+            this.unbounded = unbounded;
+        }
+    }
+}
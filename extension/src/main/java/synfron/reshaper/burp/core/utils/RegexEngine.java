@@ -0,0 +1,18 @@
+package synfron.reshaper.burp.core.utils;
+
+public enum RegexEngine {
+    Default("Default"),
+    Java("Java"),
+    Linear("Linear Time");
+
+    private final String name;
+
+    RegexEngine(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
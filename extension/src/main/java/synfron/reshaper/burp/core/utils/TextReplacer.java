@@ -0,0 +1,122 @@
+package synfron.reshaper.burp.core.utils;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TextReplacer {
+    private static final BoundedCache<Key, TextReplacer> replacerCache = new BoundedCache<>(256);
+
+    private final AhoCorasick matcher;
+    private final String[] replacements;
+    private final boolean wholeWord;
+    private final int maxPatternLength;
+
+    private TextReplacer(Map<String, String> table, boolean ignoreCase, boolean wholeWord) {
+        this.matcher = new AhoCorasick(new ArrayList<>(table.keySet()), ignoreCase);
+        this.replacements = table.values().toArray(String[]::new);
+        this.wholeWord = wholeWord;
+        this.maxPatternLength = table.keySet().stream().mapToInt(String::length).max().orElse(0);
+    }
+
+    public static TextReplacer get(List<String> entries, String separator, boolean ignoreCase, boolean wholeWord) {
+        return replacerCache.get(new Key(entries, separator, ignoreCase, wholeWord), key -> {
+            Map<String, String> table = new LinkedHashMap<>();
+            for (String entry : key.entries) {
+                int separatorIndex = StringUtils.isNotEmpty(key.separator) ? entry.indexOf(key.separator) : -1;
+                if (separatorIndex > 0) {
+                    table.putIfAbsent(entry.substring(0, separatorIndex), entry.substring(separatorIndex + key.separator.length()));
+                }
+            }
+            return new TextReplacer(table, key.ignoreCase, key.wholeWord);
+        });
+    }
+
+    public int size() {
+        return replacements.length;
+    }
+
+    public String replace(String text) {
+        if (text == null || text.isEmpty() || replacements.length == 0) {
+            return text;
+        }
+        Replacement replacement = new Replacement(text);
+        matcher.search(text, replacement);
+        return replacement.finish();
+    }
+
+    private static boolean isWordBoundary(String text, int startIndex, int endIndex) {
+        return (startIndex == 0 || !isWordChar(text.charAt(startIndex - 1))) &&
+                (endIndex == text.length() || !isWordChar(text.charAt(endIndex)));
+    }
+
+    private static boolean isWordChar(char c) {
+        return c == '_' || Character.isLetterOrDigit(c);
+    }
+
+    private class Replacement implements AhoCorasick.MatchConsumer {
+        private final String text;
+        private final int[] pendingMatches = new int[maxPatternLength];
+        private int nextStart;
+        private int lastIndex;
+        private StringBuilder builder;
+
+        private Replacement(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public void accept(int patternIndex, int endIndex) {
+            int patternLength = matcher.getPatternLength(patternIndex);
+            int startIndex = endIndex - patternLength;
+            if (wholeWord && !isWordBoundary(text, startIndex, endIndex)) {
+                return;
+            }
+            resolve(endIndex - maxPatternLength);
+            int slot = startIndex % pendingMatches.length;
+            int currentMatch = pendingMatches[slot] - 1;
+            if (currentMatch < 0 ||
+                    patternLength > matcher.getPatternLength(currentMatch) ||
+                    (patternLength == matcher.getPatternLength(currentMatch) && patternIndex < currentMatch)) {
+                pendingMatches[slot] = patternIndex + 1;
+            }
+        }
+
+        private void resolve(int toIndex) {
+            for (; nextStart < toIndex; nextStart++) {
+                int slot = nextStart % pendingMatches.length;
+                int match = pendingMatches[slot] - 1;
+                if (match < 0) {
+                    continue;
+                }
+                pendingMatches[slot] = 0;
+                if (nextStart >= lastIndex) {
+                    if (builder == null) {
+                        builder = new StringBuilder(text.length());
+                    }
+                    builder.append(text, lastIndex, nextStart).append(replacements[match]);
+                    lastIndex = nextStart + matcher.getPatternLength(match);
+                }
+            }
+        }
+
+        private String finish() {
+            resolve(text.length());
+            return builder != null ? builder.append(text, lastIndex, text.length()).toString() : text;
+        }
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class Key {
+        private final List<String> entries;
+        private final String separator;
+        private final boolean ignoreCase;
+        private final boolean wholeWord;
+    }
+}
@@ -4,9 +4,13 @@ import burp.BurpExtender;
 import burp.api.montoya.core.ByteArray;
 import burp.api.montoya.utilities.DigestAlgorithm;
 import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.Option;
 import com.jayway.jsonpath.ParseContext;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONValue;
 import org.apache.commons.codec.binary.Hex;
@@ -20,11 +24,14 @@ import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.nodes.Node;
 import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
 import synfron.reshaper.burp.core.messages.Encoder;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.HexFormat;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -36,6 +43,12 @@ import java.util.stream.Collectors;
 public class TextUtils {
 
     private static ParseContext jsonPathContext;
+    @Getter
+    private static final BoundedCache<PatternKey, IRegexPattern> patternCache = new BoundedCache<>(1024);
+    @Getter
+    private static final BoundedCache<String, JsonPath> jsonPathCache = new BoundedCache<>(1024);
+    @Getter
+    private static final BoundedCache<String, Evaluator> cssSelectorCache = new BoundedCache<>(1024);
 
     private static ParseContext getJsonPathContext() {
         if (jsonPathContext == null) {
@@ -44,12 +57,36 @@ public class TextUtils {
         return jsonPathContext;
     }
 
+    public static JsonPath getJsonPath(String jsonPath) {
+        return jsonPathCache.get(jsonPath, path -> JsonPath.compile(path));
+    }
+
+    public static Evaluator getCssSelector(String selector) {
+        return cssSelectorCache.get(selector, QueryParser::parse);
+    }
+
+    public static DocumentContext parseJson(String text) {
+        return getJsonPathContext().parse(text);
+    }
+
     public static String getJsonPathValue(String text, String jsonPath) {
-        return stripQuotes(JSONValue.toJSONString(getJsonPathContext().parse(text).read(jsonPath)));
+        return getJsonPathValue(parseJson(text), jsonPath);
+    }
+
+    public static String getJsonPathValue(DocumentContext document, String jsonPath) {
+        return toJsonPathValue(document.read(getJsonPath(jsonPath)));
+    }
+
+    public static String toJsonPathValue(Object value) {
+        return stripQuotes(JSONValue.toJSONString(value));
     }
 
     public static String setJsonPathValue(String text, String jsonPath, String value) {
-        return stripQuotes(getJsonPathContext().parse(text).set(jsonPath, JSONValue.parse(value)).jsonString());
+        return stripQuotes(setJsonPathValue(parseJson(text), jsonPath, value));
+    }
+
+    public static String setJsonPathValue(DocumentContext document, String jsonPath, String value) {
+        return document.set(getJsonPath(jsonPath), JSONValue.parse(value)).jsonString();
     }
 
     public static String stripQuotes(String text) {
@@ -61,10 +98,13 @@ public class TextUtils {
     }
 
     public static String getCssSelectorValue(String text, String selector) {
-        Document doc = Jsoup.parse(text);
+        return getCssSelectorValue(Jsoup.parse(text), selector);
+    }
+
+    public static String getCssSelectorValue(Document doc, String selector) {
         boolean hasInnerHTML = selector.endsWith("::innerHTML");
         selector = hasInnerHTML ? StringUtils.removeEnd(selector, "::innerHTML") : selector;
-        Elements elements = doc.select(selector);
+        Elements elements = doc.select(getCssSelector(selector));
         if (hasInnerHTML) {
             return elements.html();
         } else {
@@ -73,18 +113,28 @@ public class TextUtils {
     }
 
     public static List<String> getJsonPathValues(String text, String jsonPath) {
-        Object value = getJsonPathContext().parse(text).read(jsonPath);
+        return getJsonPathValues(parseJson(text), jsonPath);
+    }
+
+    public static List<String> getJsonPathValues(DocumentContext document, String jsonPath) {
+        return toJsonPathValues(document.read(getJsonPath(jsonPath)));
+    }
+
+    public static List<String> toJsonPathValues(Object value) {
         if (value instanceof JSONArray array) {
-            return array.stream().map(item -> stripQuotes(JSONValue.toJSONString(item))).toList();
+            return array.stream().map(TextUtils::toJsonPathValue).toList();
         }
-        return List.of(stripQuotes(JSONValue.toJSONString(value)));
+        return List.of(toJsonPathValue(value));
     }
 
     public static List<String> getCssSelectorValues(String text, String selector) {
-        Document doc = Jsoup.parse(text);
+        return getCssSelectorValues(Jsoup.parse(text), selector);
+    }
+
+    public static List<String> getCssSelectorValues(Document doc, String selector) {
         boolean hasInnerHTML = selector.endsWith("::innerHTML");
         selector = hasInnerHTML ? StringUtils.removeEnd(selector, "::innerHTML") : selector;
-        Elements elements = doc.select(selector);
+        Elements elements = doc.select(getCssSelector(selector));
         if (hasInnerHTML) {
             return elements.stream().map(Element::html).toList();
         } else {
@@ -93,22 +143,62 @@ public class TextUtils {
     }
 
     public static List<String> getXPathValues(String text, String xpath) {
-        Document doc = Jsoup.parse(text);
+        return getXPathValues(Jsoup.parse(text), xpath);
+    }
+
+    public static List<String> getXPathValues(Document doc, String xpath) {
         List<Node> nodes = doc.selectXpath(xpath, Node.class);
         return nodes.stream().map(Node::toString).toList();
     }
 
+    public static Pattern getPattern(String regex, int flags) {
+        return ((JavaRegexPattern) getPattern(regex, flags, RegexEngine.Java)).getPattern();
+    }
+
+    public static IRegexPattern getPattern(String regex, int flags, RegexEngine engine) {
+        return patternCache.get(new PatternKey(regex, flags, engine), key -> compilePattern(regex, flags, engine));
+    }
+
+    public static IRegexPattern compilePattern(String regex, int flags, RegexEngine engine) {
+        if (engine == RegexEngine.Linear) {
+            try {
+                return new LinearRegexPattern(regex, flags);
+            } catch (com.google.re2j.PatternSyntaxException e) {
+                // Unsupported by the linear time engine (e.g. backreferences or lookaround)
+            }
+        }
+        return new JavaRegexPattern(Pattern.compile(regex, flags), engine);
+    }
+
     public static List<String> getRegexValues(String text, String regex) {
-        Pattern pattern = Pattern.compile(regex);
+        return getRegexValues(text, getPattern(regex, 0));
+    }
+
+    public static List<String> getRegexValues(String text, Pattern pattern) {
         Matcher matcher = pattern.matcher(text);
         return matcher.results().map(MatchResult::group).toList();
     }
 
+    public static List<String> getRegexValues(String text, IRegexPattern pattern, long timeLimit) {
+        return pattern.findAll(withTimeLimit(text, pattern, timeLimit));
+    }
+
+    public static String replaceAll(String text, IRegexPattern pattern, String replacement, long timeLimit) {
+        return pattern.replaceAll(withTimeLimit(text, pattern, timeLimit), replacement);
+    }
+
+    public static CharSequence withTimeLimit(String text, IRegexPattern pattern, long timeLimit) {
+        return timeLimit > 0 && text != null ? new DeadlineCharSequence(text, pattern.pattern(), timeLimit) : text;
+    }
+
     public static String setCssSelectorValue(String text, String selector, String value) {
-        Document doc = Jsoup.parse(text);
+        return setCssSelectorValue(Jsoup.parse(text), selector, value);
+    }
+
+    public static String setCssSelectorValue(Document doc, String selector, String value) {
         boolean hasInnerHTML = selector.endsWith("::innerHTML");
         selector = hasInnerHTML ? StringUtils.removeEnd(selector, "::innerHTML") : selector;
-        Elements elements = doc.select(selector);
+        Elements elements = doc.select(getCssSelector(selector));
         if (hasInnerHTML) {
             elements.html(value);
         } else {
@@ -118,8 +208,16 @@ public class TextUtils {
         return doc.toString();
     }
 
+    public static List<NameValuePair> parseParams(String text) {
+        return URLEncodedUtils.parse(text, StandardCharsets.UTF_8);
+    }
+
     public static String getParamValue(String text, String name) {
-        return URLEncodedUtils.parse(text, StandardCharsets.UTF_8).stream()
+        return getParamValue(parseParams(text), name);
+    }
+
+    public static String getParamValue(List<NameValuePair> params, String name) {
+        return params.stream()
                 .filter(param -> param.getName().equals(name))
                 .map(NameValuePair::getValue)
                 .findFirst()
@@ -127,9 +225,13 @@ public class TextUtils {
     }
 
     public static String setParamValue(String text, String name, String value) {
+        return URLEncodedUtils.format(setParamValue(parseParams(text), name, value), StandardCharsets.UTF_8);
+    }
+
+    public static List<NameValuePair> setParamValue(List<NameValuePair> currentParams, String name, String value) {
         List<NameValuePair> params = new ArrayList<>();
         boolean found = false;
-        for (NameValuePair param : URLEncodedUtils.parse(text, StandardCharsets.UTF_8)) {
+        for (NameValuePair param : currentParams) {
             if (param.getName().equals(name)) {
                 found = true;
                 params.add(new BasicNameValuePair(name, value));
@@ -140,16 +242,21 @@ public class TextUtils {
         if (!found) {
             params.add(new BasicNameValuePair(name, value));
         }
-        return URLEncodedUtils.format(params, StandardCharsets.UTF_8);
+        return params;
     }
 
     public static boolean isMatch(String text, String regex, boolean ignoreCase) {
-        Pattern pattern = ignoreCase ?
-                Pattern.compile(regex, Pattern.CASE_INSENSITIVE) :
-                Pattern.compile(regex);
+        return isMatch(text, getPattern(regex, ignoreCase ? Pattern.CASE_INSENSITIVE : 0));
+    }
+
+    public static boolean isMatch(String text, Pattern pattern) {
         return pattern.matcher(text).find();
     }
 
+    public static boolean isMatch(String text, IRegexPattern pattern, long timeLimit) {
+        return pattern.find(withTimeLimit(text, pattern, timeLimit));
+    }
+
     public static boolean isInt(String text) {
         try {
             Integer.parseInt(text);
@@ -254,6 +361,10 @@ public class TextUtils {
         return  chunks;
     }
 
+    public static List<String> getLines(String text) {
+        return StringUtils.isEmpty(text) ? Collections.emptyList() : List.of(text.split("\\r?\\n"));
+    }
+
     public static String changeCase(String text, PhraseCase phraseCase) {
         return switch (phraseCase) {
             case LowerCase -> text.toLowerCase();
@@ -451,4 +562,12 @@ public class TextUtils {
         }
         return false;
     }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class PatternKey {
+        private final String regex;
+        private final int flags;
+        private final RegexEngine engine;
+    }
 }
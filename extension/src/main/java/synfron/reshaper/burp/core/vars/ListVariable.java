@@ -3,7 +3,6 @@ package synfron.reshaper.burp.core.vars;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
-import synfron.reshaper.burp.core.events.PropertyChangedArgs;
 import synfron.reshaper.burp.core.utils.CollectionUtils;
 import synfron.reshaper.burp.core.utils.TextUtils;
 
@@ -14,10 +13,10 @@ import java.util.stream.Stream;
 public class ListVariable extends Variable {
 
     @Getter
-    private List<Object> values = new ArrayList<>();
+    private volatile List<Object> values = new ArrayList<>();
 
     @Getter @Setter
-    private String delimiter = "\n";
+    private volatile String delimiter = "\n";
 
     private ListVariable() {
         this(null);
@@ -34,6 +33,7 @@ public class ListVariable extends Variable {
 
     @Override
     public Object getValue(GetListItemPlacement itemPlacement, Integer index) {
+        List<Object> values = this.values;
         if (index != null) {
             return CollectionUtils.elementAtOrDefault(values, index, null);
         } else if (itemPlacement == null) {
@@ -51,25 +51,31 @@ public class ListVariable extends Variable {
     @Override
     public void setValue(Object value) {
         setValue(SetListItemPlacement.All, null, null, value);
-        propertyChangedEvent.invoke(new PropertyChangedArgs(this, "value", value));
+        propertyChanged("value", value);
     }
 
     public void setValues(Object[] values, String delimiter, SetListItemsPlacement itemsPlacement) {
-        this.delimiter = StringUtils.defaultString(delimiter, this.delimiter);
-        List<Object> newValues = Arrays.stream(values).map(TextUtils::toString).map(value -> (Object)value).collect(Collectors.toCollection(ArrayList::new));
-        if (hasValue()) {
-            switch (itemsPlacement) {
-                case AddFirst -> this.values = Stream.concat(newValues.stream(), this.values.stream()).toList();
-                case AddLast -> this.values = Stream.concat(this.values.stream(), newValues.stream()).toList();
-                case Overwrite -> this.values = newValues;
+        synchronized (this) {
+            this.delimiter = StringUtils.defaultString(delimiter, this.delimiter);
+            List<Object> newValues = Arrays.stream(values).map(TextUtils::toString).map(value -> (Object)value).collect(Collectors.toCollection(ArrayList::new));
+            if (hasValue()) {
+                switch (itemsPlacement) {
+                    case AddFirst -> this.values = Stream.concat(newValues.stream(), this.values.stream()).collect(Collectors.toCollection(ArrayList::new));
+                    case AddLast -> this.values = Stream.concat(this.values.stream(), newValues.stream()).collect(Collectors.toCollection(ArrayList::new));
+                    case Overwrite -> this.values = newValues;
+                }
+            } else {
+                this.values = newValues;
             }
-        } else {
-            this.values = newValues;
+            incrementVersion();
+        }
+        if (propertyChangedEvent.hasListeners()) {
+            propertyChanged("value", getValue());
         }
-        propertyChangedEvent.invoke(new PropertyChangedArgs(this, "value", getValue()));
     }
 
-    public void delete(DeleteListItemPlacement itemPlacement, Integer index) {
+    public synchronized void delete(DeleteListItemPlacement itemPlacement, Integer index) {
+        List<Object> values = new ArrayList<>(this.values);
         switch (itemPlacement) {
             case First -> CollectionUtils.removeFirst(values);
             case Last ->  CollectionUtils.removeLast(values);
@@ -80,30 +86,39 @@ public class ListVariable extends Variable {
             }
             case All ->  values.clear();
         }
+        this.values = values;
+        incrementVersion();
     }
 
     @Override
     public void setValue(SetListItemPlacement itemPlacement, String delimiter, Integer index, Object value) {
         if (itemPlacement != null) {
-            if (itemPlacement.isHasIndexSetter() && index != null) {
-                CollectionUtils.set(values, index, value);
-            } else {
-                switch (itemPlacement) {
-                    case First -> CollectionUtils.setFirst(values, value);
-                    case Last -> CollectionUtils.setLast(values, value);
-                    case AddFirst -> values.add(0, value);
-                    case AddLast -> values.add(value);
-                    case All -> {
-                        if (delimiter != null) {
-                            this.delimiter = delimiter;
+            synchronized (this) {
+                List<Object> values = new ArrayList<>(this.values);
+                if (itemPlacement.isHasIndexSetter() && index != null) {
+                    CollectionUtils.set(values, index, value);
+                } else {
+                    switch (itemPlacement) {
+                        case First -> CollectionUtils.setFirst(values, value);
+                        case Last -> CollectionUtils.setLast(values, value);
+                        case AddFirst -> values.add(0, value);
+                        case AddLast -> values.add(value);
+                        case All -> {
+                            if (delimiter != null) {
+                                this.delimiter = delimiter;
+                            }
+                            values = value == null ?
+                                    new ArrayList<>() :
+                                    Arrays.stream(TextUtils.toString(value).split(this.delimiter)).map(part -> (Object) part).collect(Collectors.toCollection(ArrayList::new));
                         }
-                        values = value == null ?
-                                new ArrayList<>() :
-                                Arrays.stream(TextUtils.toString(value).split(this.delimiter)).map(part -> (Object) part).collect(Collectors.toCollection(ArrayList::new));
                     }
                 }
+                this.values = values;
+                incrementVersion();
+            }
+            if (propertyChangedEvent.hasListeners()) {
+                propertyChanged("value", getValue());
             }
-            propertyChangedEvent.invoke(new PropertyChangedArgs(this, "value", getValue()));
         }
     }
 
@@ -114,6 +129,7 @@ public class ListVariable extends Variable {
 
     @Override
     public boolean hasValue() {
+        List<Object> values = this.values;
         return values != null && !values.isEmpty();
     }
 
@@ -136,6 +152,7 @@ public class ListVariable extends Variable {
         private Iterator() {}
 
         public Object next() {
+            List<Object> values = ListVariable.this.values;
             return index < values.size() ? values.get(index++) : null;
         }
 
@@ -8,6 +8,8 @@ import synfron.reshaper.burp.core.events.PropertyChangedArgs;
 import synfron.reshaper.burp.core.events.PropertyChangedEvent;
 import synfron.reshaper.burp.core.utils.TextUtils;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "isList", defaultImpl = Variable.class)
 @JsonSubTypes({
         @JsonSubTypes.Type(value = Variable.class, name = "false"),
@@ -16,17 +18,18 @@ import synfron.reshaper.burp.core.utils.TextUtils;
 public class Variable {
     @Getter
     protected final transient PropertyChangedEvent propertyChangedEvent = new PropertyChangedEvent();
+    private final transient AtomicInteger version = new AtomicInteger();
     @Getter
-    protected boolean persistent;
+    protected volatile boolean persistent;
 
     @Getter
-    private Object value;
+    private volatile Object value;
 
     @Getter
     protected final String name;
 
     @Getter
-    private VariableValueType valueType = VariableValueType.Text;
+    private volatile VariableValueType valueType = VariableValueType.Text;
 
     private Variable() {
         this(null);
@@ -43,22 +46,38 @@ public class Variable {
 
     public void setValue(Object value) {
         this.value = value;
-        propertyChangedEvent.invoke(new PropertyChangedArgs(this, "value", value));
+        incrementVersion();
+        propertyChanged("value", value);
     }
 
     public void setValue(SetListItemPlacement itemPlacement, String delimiter, Integer index, Object value) {
         this.value = value;
-        propertyChangedEvent.invoke(new PropertyChangedArgs(this, "value", value));
+        incrementVersion();
+        propertyChanged("value", value);
     }
 
     public void setValueType(VariableValueType valueType) {
         this.valueType = valueType;
-        propertyChangedEvent.invoke(new PropertyChangedArgs(this, "valueType", valueType));
+        propertyChanged("valueType", valueType);
     }
 
     public void setPersistent(boolean persistent) {
         this.persistent = persistent;
-        propertyChangedEvent.invoke(new PropertyChangedArgs(this, "persistent", persistent));
+        propertyChanged("persistent", persistent);
+    }
+
+    public int getVersion() {
+        return version.get();
+    }
+
+    protected void incrementVersion() {
+        version.incrementAndGet();
+    }
+
+    protected void propertyChanged(String name, Object value) {
+        if (propertyChangedEvent.hasListeners()) {
+            propertyChangedEvent.invoke(new PropertyChangedArgs(this, name, value));
+        }
     }
 
     public String toString() {
@@ -1,6 +1,7 @@
 package synfron.reshaper.burp.core.vars;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.commons.lang3.StringUtils;
 import synfron.reshaper.burp.core.utils.CollectionUtils;
@@ -14,6 +15,8 @@ public class VariableSourceEntry implements Serializable {
     private final VariableSource variableSource;
     private String tag;
     private final List<String> params = new ArrayList<>();
+    @Getter(AccessLevel.NONE)
+    private transient Variables.Key variableKey;
 
     public VariableSourceEntry(
             @JsonProperty("variableSource") VariableSource variableSource,
@@ -34,6 +37,14 @@ public class VariableSourceEntry implements Serializable {
         this(variableSource, null, params, null);
     }
 
+    public Variables.Key getVariableKey() {
+        Variables.Key variableKey = this.variableKey;
+        if (variableKey == null) {
+            this.variableKey = variableKey = Variables.asKey(params.getFirst(), variableSource.isList());
+        }
+        return variableKey;
+    }
+
     @JsonProperty
     public String getTag() {
         if (StringUtils.isEmpty(tag)) {
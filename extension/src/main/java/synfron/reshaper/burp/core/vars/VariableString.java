@@ -2,6 +2,8 @@ package synfron.reshaper.burp.core.vars;
 
 import org.apache.commons.lang3.StringUtils;
 import synfron.reshaper.burp.core.messages.EventInfo;
+import synfron.reshaper.burp.core.utils.IRegexPattern;
+import synfron.reshaper.burp.core.utils.RegexEngine;
 import synfron.reshaper.burp.core.utils.TextUtils;
 import synfron.reshaper.burp.core.vars.getters.VariableGetterProvider;
 
@@ -9,11 +11,15 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.MissingFormatArgumentException;
 import java.util.regex.Pattern;
 
 public class VariableString implements Serializable {
     private final String text;
     private final List<VariableSourceEntry> variables;
+    private transient volatile String[] segments;
+    private transient int literalLength;
+    private transient volatile IRegexPattern pattern;
 
     private VariableString() {
         text = "";
@@ -41,8 +47,62 @@ public class VariableString implements Serializable {
         return variableString == null || variableString.isEmpty();
     }
 
+    private String[] getSegments() {
+        String[] segments = this.segments;
+        if (segments == null) {
+            List<String> segmentList = new ArrayList<>();
+            StringBuilder segment = new StringBuilder();
+            int length = 0;
+            for (int index = 0; index < text.length(); index++) {
+                char c = text.charAt(index);
+                if (c == '%' && index + 1 < text.length()) {
+                    char next = text.charAt(++index);
+                    if (next == 's') {
+                        segmentList.add(segment.toString());
+                        length += segment.length();
+                        segment.setLength(0);
+                        continue;
+                    } else if (next != '%') {
+                        segment.append(c);
+                    }
+                    c = next;
+                }
+                segment.append(c);
+            }
+            segmentList.add(segment.toString());
+            length += segment.length();
+            literalLength = length;
+            this.segments = segments = segmentList.toArray(String[]::new);
+        }
+        return segments;
+    }
+
+    private String render(String[] segments, String[] values, int valueCount) {
+        int length = literalLength;
+        for (int index = 0; index < valueCount; index++) {
+            length += values[index] != null ? values[index].length() : 4;
+        }
+        StringBuilder builder = new StringBuilder(length);
+        builder.append(segments[0]);
+        for (int index = 1; index < segments.length; index++) {
+            if (index > valueCount) {
+                throw new MissingFormatArgumentException("%s");
+            }
+            builder.append(values[index - 1]).append(segments[index]);
+        }
+        return builder.toString();
+    }
+
     public String toString() {
-        return String.format(text, variables.stream().map(VariableSourceEntry::getTag).toArray());
+        String[] segments = getSegments();
+        if (segments.length == 1) {
+            return segments[0];
+        }
+        String[] tags = new String[variables.size()];
+        for (int index = 0; index < tags.length; index++) {
+            tags[index] = variables.get(index).getTag();
+        }
+        return render(segments, tags, tags.length);
     }
 
     public static String toString(VariableString variableString, String defaultValue) {
@@ -80,14 +140,31 @@ public class VariableString implements Serializable {
     }
 
     public String getText(EventInfo eventInfo) {
-        List<String> variableVals = new ArrayList<>();
+        String[] segments = getSegments();
+        if (segments.length == 1) {
+            return segments[0];
+        }
+        String[] variableVals = new String[variables.size()];
+        int valueCount = 0;
         for (VariableSourceEntry variable : variables) {
             VariableSource variableSource = variable.getVariableSource();
             if (variableSource != null) {
-                variableVals.add(VariableGetterProvider.get(variableSource).getText(variable, eventInfo));
+                variableVals[valueCount++] = VariableGetterProvider.get(variableSource).getText(variable, eventInfo);
             }
         }
-        return String.format(text, variableVals.toArray());
+        return render(segments, variableVals, valueCount);
+    }
+
+    public IRegexPattern getPattern(EventInfo eventInfo, int flags) {
+        RegexEngine engine = eventInfo != null ? eventInfo.getRegexEngine() : RegexEngine.Java;
+        if (hasVariables()) {
+            return TextUtils.getPattern(getText(eventInfo), flags, engine);
+        }
+        IRegexPattern pattern = this.pattern;
+        if (pattern == null || pattern.flags() != flags || pattern.getEngine() != engine) {
+            this.pattern = pattern = TextUtils.compilePattern(getText(eventInfo), flags, engine);
+        }
+        return pattern;
     }
 
     public static String getTextOrDefault(EventInfo eventInfo, VariableString variableString, String defaultValue) {
@@ -1,19 +1,20 @@
 package synfron.reshaper.burp.core.vars;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
 import lombok.Getter;
 import synfron.reshaper.burp.core.events.*;
 import synfron.reshaper.burp.core.utils.CaseInsensitiveString;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 public class Variables {
     @Getter
     protected final CollectionChangedEvent collectionChangedEvent = new CollectionChangedEvent();
-    protected HashMap<Key, Variable> variables = new HashMap<>();
+    protected final Map<Key, Variable> variables = new ConcurrentHashMap<>();
 
     public static Variables defaultVariables(Variables variables) {
         return variables != null ? variables : new Variables();
@@ -29,24 +30,57 @@ public class Variables {
 
     public Variable add(Key key)
     {
-        boolean hasItem = variables.containsKey(key);
-        Variable variable = variables.computeIfAbsent(key, (k) -> key.isList() ?
-                new ListVariable(key.getName().getValue()) :
-                new Variable(key.getName().getValue())
-        );
-        if (!hasItem) {
-            collectionChangedEvent.invoke(new CollectionChangedArgs(this, CollectionChangedAction.Add, key, variable));
+        Variable variable = variables.get(key);
+        if (variable == null) {
+            Variable newVariable = key.isList() ?
+                    new ListVariable(key.getName().getValue()) :
+                    new Variable(key.getName().getValue());
+            variable = variables.putIfAbsent(key, newVariable);
+            if (variable == null) {
+                variable = newVariable;
+                if (collectionChangedEvent.hasListeners()) {
+                    collectionChangedEvent.invoke(new CollectionChangedArgs(this, CollectionChangedAction.Add, key, variable));
+                }
+            }
         }
         return variable;
     }
 
+    public <T> T update(Key key, Function<Variable, T> updater)
+    {
+        while (true) {
+            Variable variable = add(key);
+            synchronized (variable) {
+                if (variables.get(key) == variable) {
+                    return updater.apply(variable);
+                }
+            }
+        }
+    }
+
+    public <T> T update(Key key, Function<Variable, T> compute, BiConsumer<Variable, T> commit)
+    {
+        while (true) {
+            Variable variable = add(key);
+            int version = variable.getVersion();
+            T value = compute.apply(variable);
+            synchronized (variable) {
+                if (variables.get(key) == variable && variable.getVersion() == version) {
+                    commit.accept(variable, value);
+                    return value;
+                }
+            }
+        }
+    }
+
     public Variable get(Key key)
     {
-        if (!variables.containsKey(key))
+        Variable variable = variables.get(key);
+        if (variable == null)
         {
             throw new IndexOutOfBoundsException("Variable does not exist.");
         }
-        return variables.get(key);
+        return variable;
     }
 
     public Variable getOrDefault(Key key)
@@ -61,9 +95,14 @@ public class Variables {
 
     public boolean remove(Key key)
     {
-        Variable variable = variables.remove(key);
-        boolean result = variable != null;
-        if (result) {
+        Variable variable = variables.get(key);
+        boolean result = false;
+        if (variable != null) {
+            synchronized (variable) {
+                result = variables.remove(key, variable);
+            }
+        }
+        if (result && collectionChangedEvent.hasListeners()) {
             collectionChangedEvent.invoke(new CollectionChangedArgs(this, CollectionChangedAction.Remove, key, variable));
         }
         return result;
@@ -73,11 +112,28 @@ public class Variables {
         return new Key(new CaseInsensitiveString(name), isList);
     }
 
-    @Data
-    @AllArgsConstructor
     public static class Key {
-        private CaseInsensitiveString name;
-        private boolean isList;
+        @Getter
+        private final CaseInsensitiveString name;
+        @Getter
+        private final boolean isList;
+        private final int hashCode;
+
+        public Key(CaseInsensitiveString name, boolean isList) {
+            this.name = name;
+            this.isList = isList;
+            this.hashCode = 31 * name.hashCode() + (isList ? 1 : 0);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return this == obj || obj instanceof Key key && hashCode == key.hashCode && isList == key.isList && name.equals(key.name);
+        }
 
         @Override
         public String toString() {
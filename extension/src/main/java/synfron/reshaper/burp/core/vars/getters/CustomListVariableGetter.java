@@ -14,8 +14,7 @@ public class CustomListVariableGetter extends VariableGetter {
     @Override
     public String getText(VariableSourceEntry variableSourceEntry, EventInfo eventInfo) {
         List<String> locatorParts = variableSourceEntry.getParams();
-        String variableName = locatorParts.getFirst();
-        ListVariable variable = getVariable(variableSourceEntry, variableName, eventInfo);
+        ListVariable variable = getVariable(variableSourceEntry, eventInfo);
         String place = CollectionUtils.elementAtOrDefault(locatorParts, 1);
         if (variable == null) {
             return null;
@@ -29,11 +28,11 @@ public class CustomListVariableGetter extends VariableGetter {
         return TextUtils.toString(variable.getValue(itemPlacement, index));
     }
 
-    private static ListVariable getVariable(VariableSourceEntry variable, String variableName, EventInfo eventInfo) {
+    private static ListVariable getVariable(VariableSourceEntry variable, EventInfo eventInfo) {
         Variable value = switch (variable.getVariableSource()) {
-            case GlobalList -> (ListVariable) eventInfo.getWorkspace().getGlobalVariables().getOrDefault(Variables.asKey(variableName, true));
-            case EventList -> (ListVariable) eventInfo.getVariables().getOrDefault(Variables.asKey(variableName, true));
-            case SessionList -> (ListVariable) eventInfo.getSessionVariables().getOrDefault(Variables.asKey(variableName, true));
+            case GlobalList -> eventInfo.getWorkspace().getGlobalVariables().getOrDefault(variable.getVariableKey());
+            case EventList -> eventInfo.getVariables().getOrDefault(variable.getVariableKey());
+            case SessionList -> eventInfo.getSessionVariables().getOrDefault(variable.getVariableKey());
             default -> null;
         };
         return value instanceof ListVariable listVariable ? listVariable : null;
@@ -0,0 +1,173 @@
+package synfron.reshaper.burp.ui.components;
+
+import synfron.reshaper.burp.core.metrics.Metrics;
+import synfron.reshaper.burp.core.metrics.MetricsSnapshot;
+import synfron.reshaper.burp.core.settings.Workspace;
+import synfron.reshaper.burp.core.utils.BoundedCache;
+import synfron.reshaper.burp.core.utils.Log;
+import synfron.reshaper.burp.core.utils.Serializer;
+import synfron.reshaper.burp.core.utils.TextUtils;
+import synfron.reshaper.burp.ui.components.workspaces.IWorkspaceDependent;
+
+import javax.swing.*;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import javax.swing.table.DefaultTableModel;
+import javax.swing.table.TableRowSorter;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+public class MetricsComponent extends JPanel implements IWorkspaceDependent {
+
+    private static final String[] ColumnNames = { "Rule", "Operation", "Count", "Total (ms)", "Mean (ms)", "P50 (ms)", "P95 (ms)", "P99 (ms)" };
+    private static final Class<?>[] ColumnClasses = { String.class, String.class, Long.class, Double.class, Double.class, Double.class, Double.class, Double.class };
+    private static final int TotalColumnIndex = 3;
+
+    private final Workspace workspace;
+    private final Metrics metrics;
+    private final Timer refreshTimer = new Timer(2000, this::onRefresh);
+    private DefaultTableModel tableModel;
+    private JCheckBox enabled;
+    private JLabel budgetOverruns;
+    private JLabel regexTimeouts;
+    private JLabel caches;
+
+    public MetricsComponent() {
+        this.workspace = getHostedWorkspace();
+        this.metrics = workspace.getMetrics();
+        initComponents();
+    }
+
+    private void initComponents() {
+        setLayout(new BorderLayout());
+        add(getTable(), BorderLayout.CENTER);
+        add(getActionBar(), BorderLayout.PAGE_END);
+
+        if (metrics.isEnabled()) {
+            refreshTimer.start();
+        }
+        refresh();
+    }
+
+    private Component getTable() {
+        tableModel = new DefaultTableModel(ColumnNames, 0) {
+            @Override
+            public Class<?> getColumnClass(int columnIndex) {
+                return ColumnClasses[columnIndex];
+            }
+
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        JTable table = new JTable(tableModel);
+        TableRowSorter<DefaultTableModel> sorter = new TableRowSorter<>(tableModel);
+        sorter.setSortKeys(List.of(new RowSorter.SortKey(TotalColumnIndex, SortOrder.DESCENDING)));
+        table.setRowSorter(sorter);
+        table.setAutoResizeMode(JTable.AUTO_RESIZE_ALL_COLUMNS);
+        return new JScrollPane(table);
+    }
+
+    private Component getActionBar() {
+        JPanel actionBar = new JPanel(new FlowLayout(FlowLayout.LEFT));
+
+        enabled = new JCheckBox("Enable Profiling");
+        JButton refresh = new JButton("Refresh");
+        JButton reset = new JButton("Reset");
+        JButton export = new JButton("Export JSON");
+        budgetOverruns = new JLabel();
+        regexTimeouts = new JLabel();
+        caches = new JLabel();
+
+        enabled.setSelected(metrics.isEnabled());
+
+        enabled.addActionListener(this::onEnabledChanged);
+        refresh.addActionListener(this::onRefresh);
+        reset.addActionListener(this::onReset);
+        export.addActionListener(this::onExport);
+
+        actionBar.add(enabled);
+        actionBar.add(refresh);
+        actionBar.add(reset);
+        actionBar.add(export);
+        actionBar.add(budgetOverruns);
+        actionBar.add(regexTimeouts);
+        actionBar.add(caches);
+        return actionBar;
+    }
+
+    private void onEnabledChanged(ActionEvent actionEvent) {
+        metrics.setEnabled(enabled.isSelected());
+        if (enabled.isSelected()) {
+            refreshTimer.start();
+        } else {
+            refreshTimer.stop();
+            refresh();
+        }
+    }
+
+    private void onRefresh(ActionEvent actionEvent) {
+        refresh();
+    }
+
+    private void onReset(ActionEvent actionEvent) {
+        metrics.reset();
+        refresh();
+    }
+
+    private void refresh() {
+        budgetOverruns.setText(String.format("Budget Overruns: %s", metrics.getBudgetOverruns()));
+        regexTimeouts.setText(String.format("Regex Timeouts: %s", metrics.getRegexTimeouts()));
+        caches.setText(String.join(" | ",
+                getCacheSummary("Regex", TextUtils.getPatternCache()),
+                getCacheSummary("JsonPath", TextUtils.getJsonPathCache()),
+                getCacheSummary("CSS Selector", TextUtils.getCssSelectorCache())
+        ));
+        tableModel.setRowCount(0);
+        for (MetricsSnapshot snapshot : metrics.getSnapshots()) {
+            tableModel.addRow(new Object[] {
+                    snapshot.getRuleName(),
+                    snapshot.getOperationName(),
+                    snapshot.getCount(),
+                    snapshot.getTotalMillis(),
+                    snapshot.getMeanMillis(),
+                    snapshot.getP50Millis(),
+                    snapshot.getP95Millis(),
+                    snapshot.getP99Millis()
+            });
+        }
+    }
+
+    private String getCacheSummary(String name, BoundedCache<?, ?> cache) {
+        return String.format("%s Cache: %s hits, %s misses", name, cache.getHits(), cache.getMisses());
+    }
+
+    private void onExport(ActionEvent actionEvent) {
+        try {
+            JFileChooser fileChooser = new JFileChooser();
+            fileChooser.setDialogTitle("Export Metrics");
+            fileChooser.setFileSelectionMode(JFileChooser.FILES_ONLY);
+            fileChooser.setFileFilter(new FileNameExtensionFilter("JSON file", "json"));
+            fileChooser.setSelectedFile(new File("ReshaperMetrics.json"));
+            if (fileChooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
+                Files.writeString(
+                        fileChooser.getSelectedFile().toPath(),
+                        Serializer.serialize(metrics.getSnapshots(), true),
+                        StandardCharsets.UTF_8
+                );
+            }
+        } catch (Exception e) {
+            Log.get(workspace).withMessage("Error exporting metrics").withException(e).logErr();
+
+            JOptionPane.showMessageDialog(this,
+                    "Error exporting metrics",
+                    "Export Error",
+                    JOptionPane.ERROR_MESSAGE
+            );
+        }
+    }
+}
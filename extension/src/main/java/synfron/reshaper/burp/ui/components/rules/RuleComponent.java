@@ -8,6 +8,7 @@ import synfron.reshaper.burp.core.events.IEventListener;
 import synfron.reshaper.burp.core.events.PropertyChangedArgs;
 import synfron.reshaper.burp.core.settings.Workspace;
 import synfron.reshaper.burp.core.utils.Log;
+import synfron.reshaper.burp.core.utils.RegexEngine;
 import synfron.reshaper.burp.ui.components.rules.wizard.matchreplace.MatchAndReplaceWizardComponent;
 import synfron.reshaper.burp.ui.components.shared.IFormComponent;
 import synfron.reshaper.burp.ui.models.rules.RuleModel;
@@ -22,6 +23,7 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.font.TextAttribute;
 import java.net.URI;
+import java.util.List;
 import java.util.Map;
 
 public class RuleComponent extends JPanel implements IFormComponent {
@@ -31,6 +33,7 @@ public class RuleComponent extends JPanel implements IFormComponent {
     private final Workspace workspace;
     private JCheckBox isEnabled;
     private JCheckBox autoRun;
+    private JComboBox<RegexEngine> regexEngine;
     private JTextField ruleName;
     private JButton save;
     private final IEventListener<PropertyChangedArgs> modelPropertyChangedListener = this::onModelPropertyChanged;
@@ -168,17 +171,22 @@ public class RuleComponent extends JPanel implements IFormComponent {
         JPanel buttonSection = new JPanel(new FlowLayout(FlowLayout.RIGHT));
 
         autoRun = new JCheckBox("Auto Run");
+        regexEngine = createComboBox(RegexEngine.values());
         isEnabled = new JCheckBox("Enabled");
         save = new JButton("Save");
         setSaveButtonState();
 
         autoRun.setSelected(model.isAutoRun());
+        regexEngine.setSelectedItem(model.getRegexEngine());
         isEnabled.setSelected(model.isEnabled());
 
         autoRun.addActionListener(this::onAutoRun);
+        regexEngine.addActionListener(this::onRegexEngine);
         isEnabled.addActionListener(this::onEnabled);
         save.addActionListener(this::onSave);
 
+        buttonSection.add(new JLabel("Regex Engine"));
+        buttonSection.add(regexEngine);
         buttonSection.add(autoRun);
         buttonSection.add(isEnabled);
         buttonSection.add(save);
@@ -200,6 +208,10 @@ public class RuleComponent extends JPanel implements IFormComponent {
         model.setAutoRun(autoRun.isSelected());
     }
 
+    private void onRegexEngine(ActionEvent actionEvent) {
+        model.setRegexEngine((RegexEngine) regexEngine.getSelectedItem());
+    }
+
     private void onRuleNameChanged(ActionEvent actionEvent) {
         model.setName(ruleName.getText());
     }
@@ -214,6 +226,14 @@ public class RuleComponent extends JPanel implements IFormComponent {
                     String.join("\n", model.validate()),
                     "Validation Error",
                     JOptionPane.ERROR_MESSAGE);
+        } else {
+            List<String> warnings = model.getWarnings();
+            if (!warnings.isEmpty()) {
+                JOptionPane.showMessageDialog(this,
+                        String.join("\n", warnings),
+                        "Validation Warning",
+                        JOptionPane.WARNING_MESSAGE);
+            }
         }
     }
 
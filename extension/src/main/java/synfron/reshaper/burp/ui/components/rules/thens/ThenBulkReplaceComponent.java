@@ -0,0 +1,171 @@
+package synfron.reshaper.burp.ui.components.rules.thens;
+
+import synfron.reshaper.burp.core.ProtocolType;
+import synfron.reshaper.burp.core.messages.Encoder;
+import synfron.reshaper.burp.core.messages.MessageValue;
+import synfron.reshaper.burp.core.rules.SetItemPlacement;
+import synfron.reshaper.burp.core.rules.thens.ThenBulkReplace;
+import synfron.reshaper.burp.core.rules.thens.entities.bulkreplace.ReplacementTableSource;
+import synfron.reshaper.burp.core.vars.VariableSource;
+import synfron.reshaper.burp.ui.models.rules.thens.ThenBulkReplaceModel;
+import synfron.reshaper.burp.ui.utils.ComponentVisibilityManager;
+import synfron.reshaper.burp.ui.utils.DocumentActionListener;
+
+import javax.swing.*;
+import java.awt.event.ActionEvent;
+import java.util.Arrays;
+
+public class ThenBulkReplaceComponent extends ThenComponent<ThenBulkReplaceModel, ThenBulkReplace> {
+    private JComboBox<MessageValue> messageValue;
+    private JTextField identifier;
+    private JComboBox<SetItemPlacement> identifierPlacement;
+    private JComboBox<ReplacementTableSource> tableSource;
+    private JTextArea entries;
+    private JComboBox<VariableSource> listVariableSource;
+    private JTextField listVariableName;
+    private JTextField filePath;
+    private JComboBox<String> encoding;
+    private JTextField separator;
+    private JCheckBox ignoreCase;
+    private JCheckBox wholeWord;
+
+    public ThenBulkReplaceComponent(ProtocolType protocolType, ThenBulkReplaceModel then) {
+        super(protocolType, then);
+        initComponent();
+    }
+
+    private void initComponent() {
+        messageValue = createComboBox(Arrays.stream(MessageValue.values())
+                .filter(value -> value.isGettable(protocolType) && value.isSettable(protocolType))
+                .toArray(MessageValue[]::new)
+        );
+        identifier = createTextField(true);
+        identifierPlacement = createComboBox(SetItemPlacement.values());
+        tableSource = createComboBox(ReplacementTableSource.values());
+        entries = createTextComponent(new JTextArea(8, 40));
+        listVariableSource = createComboBox(Arrays.stream(VariableSource.values())
+                .filter(VariableSource::isList)
+                .toArray(VariableSource[]::new));
+        listVariableName = createTextField(true);
+        filePath = createTextField(true);
+        encoding = createComboBox(Encoder.getEncodings().toArray(new String[0]), true);
+        separator = createTextField(true);
+        ignoreCase = new JCheckBox("Ignore Case");
+        wholeWord = new JCheckBox("Whole Word");
+
+        messageValue.setSelectedItem(model.getMessageValue());
+        identifier.setText(model.getIdentifier());
+        identifierPlacement.setSelectedItem(model.getIdentifierPlacement());
+        tableSource.setSelectedItem(model.getTableSource());
+        entries.setText(model.getEntries());
+        listVariableSource.setSelectedItem(model.getListVariableSource());
+        listVariableName.setText(model.getListVariableName());
+        filePath.setText(model.getFilePath());
+        encoding.setSelectedItem(model.getEncoding());
+        separator.setText(model.getSeparator());
+        ignoreCase.setSelected(model.isIgnoreCase());
+        wholeWord.setSelected(model.isWholeWord());
+
+        messageValue.addActionListener(this::onMessageValueChanged);
+        identifier.getDocument().addDocumentListener(new DocumentActionListener(this::onIdentifierChanged));
+        identifierPlacement.addActionListener(this::onIdentifierPlacementChanged);
+        tableSource.addActionListener(this::onTableSourceChanged);
+        entries.getDocument().addDocumentListener(new DocumentActionListener(this::onEntriesChanged));
+        listVariableSource.addActionListener(this::onListVariableSourceChanged);
+        listVariableName.getDocument().addDocumentListener(new DocumentActionListener(this::onListVariableNameChanged));
+        filePath.getDocument().addDocumentListener(new DocumentActionListener(this::onFilePathChanged));
+        encoding.addActionListener(this::onEncodingChanged);
+        separator.getDocument().addDocumentListener(new DocumentActionListener(this::onSeparatorChanged));
+        ignoreCase.addActionListener(this::onIgnoreCaseChanged);
+        wholeWord.addActionListener(this::onWholeWordChanged);
+
+        mainContainer.add(getLabeledField("Message Value", messageValue), "wrap");
+        mainContainer.add(ComponentVisibilityManager.withVisibilityFieldChangeDependency(
+                getLabeledField("Identifier *", identifier),
+                messageValue,
+                () -> ((MessageValue) messageValue.getSelectedItem()).isIdentifierRequired()
+        ), "wrap");
+        mainContainer.add(ComponentVisibilityManager.withVisibilityFieldChangeDependency(
+                getLabeledField("Identifier Placement", identifierPlacement),
+                messageValue,
+                () -> ((MessageValue) messageValue.getSelectedItem()).isIdentifierRequired()
+        ), "wrap");
+        mainContainer.add(getLabeledField("Table Source", tableSource), "wrap");
+        mainContainer.add(ComponentVisibilityManager.withVisibilityFieldChangeDependency(
+                getLabeledField("Entries *", new JScrollPane(entries)),
+                tableSource,
+                () -> tableSource.getSelectedItem() == ReplacementTableSource.Inline
+        ), "wrap");
+        mainContainer.add(ComponentVisibilityManager.withVisibilityFieldChangeDependency(
+                getLabeledField("List Variable Source", listVariableSource),
+                tableSource,
+                () -> tableSource.getSelectedItem() == ReplacementTableSource.ListVariable
+        ), "wrap");
+        mainContainer.add(ComponentVisibilityManager.withVisibilityFieldChangeDependency(
+                getLabeledField("List Variable Name *", listVariableName),
+                tableSource,
+                () -> tableSource.getSelectedItem() == ReplacementTableSource.ListVariable
+        ), "wrap");
+        mainContainer.add(ComponentVisibilityManager.withVisibilityFieldChangeDependency(
+                getLabeledField("File Path *", filePath),
+                tableSource,
+                () -> tableSource.getSelectedItem() == ReplacementTableSource.File
+        ), "wrap");
+        mainContainer.add(ComponentVisibilityManager.withVisibilityFieldChangeDependency(
+                getLabeledField("Encoding *", encoding),
+                tableSource,
+                () -> tableSource.getSelectedItem() == ReplacementTableSource.File
+        ), "wrap");
+        mainContainer.add(getLabeledField("Separator *", separator), "wrap");
+        mainContainer.add(ignoreCase, "wrap");
+        mainContainer.add(wholeWord, "wrap");
+    }
+
+    private void onMessageValueChanged(ActionEvent actionEvent) {
+        model.setMessageValue((MessageValue) messageValue.getSelectedItem());
+    }
+
+    private void onIdentifierChanged(ActionEvent actionEvent) {
+        model.setIdentifier(identifier.getText());
+    }
+
+    private void onIdentifierPlacementChanged(ActionEvent actionEvent) {
+        model.setIdentifierPlacement((SetItemPlacement) identifierPlacement.getSelectedItem());
+    }
+
+    private void onTableSourceChanged(ActionEvent actionEvent) {
+        model.setTableSource((ReplacementTableSource) tableSource.getSelectedItem());
+    }
+
+    private void onEntriesChanged(ActionEvent actionEvent) {
+        model.setEntries(entries.getText());
+    }
+
+    private void onListVariableSourceChanged(ActionEvent actionEvent) {
+        model.setListVariableSource((VariableSource) listVariableSource.getSelectedItem());
+    }
+
+    private void onListVariableNameChanged(ActionEvent actionEvent) {
+        model.setListVariableName(listVariableName.getText());
+    }
+
+    private void onFilePathChanged(ActionEvent actionEvent) {
+        model.setFilePath(filePath.getText());
+    }
+
+    private void onEncodingChanged(ActionEvent actionEvent) {
+        model.setEncoding((String) encoding.getSelectedItem());
+    }
+
+    private void onSeparatorChanged(ActionEvent actionEvent) {
+        model.setSeparator(separator.getText());
+    }
+
+    private void onIgnoreCaseChanged(ActionEvent actionEvent) {
+        model.setIgnoreCase(ignoreCase.isSelected());
+    }
+
+    private void onWholeWordChanged(ActionEvent actionEvent) {
+        model.setWholeWord(wholeWord.isSelected());
+    }
+}
@@ -27,6 +27,7 @@ public class ThenContainerComponent extends RuleOperationContainerComponent {
         componentMap.put(ThenModelType.SetEventDirection, ThenSetEventDirectionComponent.class);
         componentMap.put(ThenModelType.SetEncoding, ThenSetEncodingComponent.class);
         componentMap.put(ThenModelType.SetValue, ThenSetValueComponent.class);
+        componentMap.put(ThenModelType.BulkReplace, ThenBulkReplaceComponent.class);
         componentMap.put(ThenModelType.DeleteValue, ThenDeleteValueComponent.class);
         componentMap.put(ThenModelType.SetVariable, ThenSetVariableComponent.class);
         componentMap.put(ThenModelType.DeleteVariable, ThenDeleteVariableComponent.class);
@@ -14,6 +14,7 @@ import synfron.reshaper.burp.core.messages.Encoder;
 import synfron.reshaper.burp.core.rules.Rule;
 import synfron.reshaper.burp.core.settings.*;
 import synfron.reshaper.burp.core.utils.Log;
+import synfron.reshaper.burp.core.utils.RegexEngine;
 import synfron.reshaper.burp.core.utils.TextUtils;
 import synfron.reshaper.burp.core.vars.Variable;
 import synfron.reshaper.burp.ui.components.shared.IFormComponent;
@@ -48,9 +49,14 @@ public class SettingsTabComponent extends JPanel implements IFormComponent, Hier
     private JCheckBox enableEventDiagnostics;
     private JTextField diagnosticValueMaxLength;
     private JCheckBox enableSanityCheckWarnings;
+    private JCheckBox enableWhenReordering;
+    private JTextField eventTimeBudget;
+    private JTextField regexTimeLimit;
+    private JCheckBox forwardUnmodifiedOnBudgetOverrun;
     private JCheckBox logInExtenderOutput;
     private JTextField logTabCharacterLimit;
     private JComboBox<String> defaultEncoding;
+    private JComboBox<RegexEngine> regexEngine;
     private JCheckBox proxy;
     private JCheckBox repeater;
     private JCheckBox intruder;
@@ -128,15 +134,19 @@ public class SettingsTabComponent extends JPanel implements IFormComponent, Hier
         rightGeneralSettings.setBorder(BorderFactory.createEmptyBorder(0, 20, 0, 0));
 
         defaultEncoding = createComboBox(Encoder.getEncodings().toArray(new String[0]));
+        regexEngine = createComboBox(new RegexEngine[] { RegexEngine.Java, RegexEngine.Linear });
 
         defaultEncoding.setSelectedItem(generalSettings.getDefaultEncoding());
+        regexEngine.setSelectedItem(generalSettings.getRegexEngine());
 
         defaultEncoding.addActionListener(this::onSetDefaultEncodingChanged);
+        regexEngine.addActionListener(this::onRegexEngineChanged);
 
         enableWorkspaces = new JButton(Workspaces.get().isEnabled() ? "Disable Workspaces" : "Enable Workspaces");
         enableWorkspaces.addActionListener(this::onEnableWorkspaces);
 
         rightGeneralSettings.add(getLabeledField("Default Encoding", defaultEncoding), "wrap");
+        rightGeneralSettings.add(getLabeledField("Regex Engine", regexEngine), "wrap");
         rightGeneralSettings.add(getCaptureTrafficOptions(), "wrap");
         rightGeneralSettings.add(enableWorkspaces, "wrap");
 
@@ -150,6 +160,10 @@ public class SettingsTabComponent extends JPanel implements IFormComponent, Hier
         enableEventDiagnostics = new JCheckBox("Enable Event Diagnostics");
         diagnosticValueMaxLength = createTextField(false);
         enableSanityCheckWarnings = new JCheckBox("Enable Sanity Check Warnings");
+        enableWhenReordering = new JCheckBox("Reorder When Conditions by Cost");
+        eventTimeBudget = createTextField(false);
+        forwardUnmodifiedOnBudgetOverrun = new JCheckBox("Forward Unmodified on Budget Overrun");
+        regexTimeLimit = createTextField(false);
         logInExtenderOutput = new JCheckBox("Replicate Logs to Extension Output");
         logTabCharacterLimit = createTextField(false);
         JButton hideFeatures = new JButton("Hide Features");
@@ -158,12 +172,20 @@ public class SettingsTabComponent extends JPanel implements IFormComponent, Hier
         enableEventDiagnostics.setSelected(generalSettings.isEnableEventDiagnostics());
         diagnosticValueMaxLength.setText(Objects.toString(generalSettings.getDiagnosticValueMaxLength()));
         enableSanityCheckWarnings.setSelected(generalSettings.isEnableSanityCheckWarnings());
+        enableWhenReordering.setSelected(generalSettings.isEnableWhenReordering());
+        eventTimeBudget.setText(Objects.toString(generalSettings.getEventTimeBudget()));
+        forwardUnmodifiedOnBudgetOverrun.setSelected(generalSettings.isForwardUnmodifiedOnBudgetOverrun());
+        regexTimeLimit.setText(Objects.toString(generalSettings.getRegexTimeLimit()));
         logInExtenderOutput.setSelected(generalSettings.isLogInExtenderOutput());
         logTabCharacterLimit.setText(Objects.toString(generalSettings.getLogTabCharacterLimit()));
 
         enableEventDiagnostics.addActionListener(this::onEnableEventDiagnosticsChanged);
         diagnosticValueMaxLength.addFocusListener(new FocusActionListener(this::onDiagnosticValueMaxLengthFocusChanged));
         enableSanityCheckWarnings.addActionListener(this::onEnableSanityCheckWarningsChanged);
+        enableWhenReordering.addActionListener(this::onEnableWhenReorderingChanged);
+        eventTimeBudget.addFocusListener(new FocusActionListener(this::onEventTimeBudgetFocusChanged));
+        forwardUnmodifiedOnBudgetOverrun.addActionListener(this::onForwardUnmodifiedOnBudgetOverrunChanged);
+        regexTimeLimit.addFocusListener(new FocusActionListener(this::onRegexTimeLimitFocusChanged));
         logInExtenderOutput.addActionListener(this::onLogInExtenderOutputChanged);
         logTabCharacterLimit.addFocusListener(new FocusActionListener(this::onLogTabCharacterLimitFocusChanged));
         hideFeatures.addActionListener(this::onHideFeatures);
@@ -173,6 +195,10 @@ public class SettingsTabComponent extends JPanel implements IFormComponent, Hier
         container.add(enableEventDiagnostics, "wrap");
         container.add(getLabeledField("Diagnostic Value Max Length", diagnosticValueMaxLength), "wrap");
         container.add(enableSanityCheckWarnings, "wrap");
+        container.add(enableWhenReordering, "wrap");
+        container.add(getLabeledField("Event Time Budget (ms)", eventTimeBudget), "wrap");
+        container.add(forwardUnmodifiedOnBudgetOverrun, "wrap");
+        container.add(getLabeledField("Regex Time Limit (ms)", regexTimeLimit), "wrap");
         container.add(logInExtenderOutput, "wrap");
         container.add(getLabeledField("Logs Tab Character Limit", logTabCharacterLimit), "wrap");
 
@@ -247,6 +273,10 @@ public class SettingsTabComponent extends JPanel implements IFormComponent, Hier
         generalSettings.setDefaultEncoding((String) defaultEncoding.getSelectedItem());
     }
 
+    private void onRegexEngineChanged(ActionEvent actionEvent) {
+        generalSettings.setRegexEngine((RegexEngine) regexEngine.getSelectedItem());
+    }
+
     private void onLogTabCharacterLimitFocusChanged(ActionEvent actionEvent) {
         if (actionEvent.getID() == FocusEvent.FOCUS_LOST && TextUtils.isInt(logTabCharacterLimit.getText())) {
             generalSettings.setLogTabCharacterLimit(Integer.parseInt(logTabCharacterLimit.getText()));
@@ -271,6 +301,26 @@ public class SettingsTabComponent extends JPanel implements IFormComponent, Hier
         generalSettings.setEnableSanityCheckWarnings(enableSanityCheckWarnings.isSelected());
     }
 
+    private void onEnableWhenReorderingChanged(ActionEvent actionEvent) {
+        generalSettings.setEnableWhenReordering(enableWhenReordering.isSelected());
+    }
+
+    private void onEventTimeBudgetFocusChanged(ActionEvent actionEvent) {
+        if (actionEvent.getID() == FocusEvent.FOCUS_LOST && TextUtils.isInt(eventTimeBudget.getText())) {
+            generalSettings.setEventTimeBudget(Math.max(0, Integer.parseInt(eventTimeBudget.getText())));
+        }
+    }
+
+    private void onRegexTimeLimitFocusChanged(ActionEvent actionEvent) {
+        if (actionEvent.getID() == FocusEvent.FOCUS_LOST && TextUtils.isInt(regexTimeLimit.getText())) {
+            generalSettings.setRegexTimeLimit(Math.max(0, Integer.parseInt(regexTimeLimit.getText())));
+        }
+    }
+
+    private void onForwardUnmodifiedOnBudgetOverrunChanged(ActionEvent actionEvent) {
+        generalSettings.setForwardUnmodifiedOnBudgetOverrun(forwardUnmodifiedOnBudgetOverrun.isSelected());
+    }
+
     private void onProxyChanged(ActionEvent actionEvent) {
         generalSettings.setCaptureProxy(proxy.isSelected());
     }
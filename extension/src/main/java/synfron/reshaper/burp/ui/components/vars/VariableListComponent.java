@@ -2,6 +2,7 @@ package synfron.reshaper.burp.ui.components.vars;
 
 import com.alexandriasoftware.swing.JSplitButton;
 import lombok.Getter;
+import synfron.reshaper.burp.core.events.CollectionChangedAction;
 import synfron.reshaper.burp.core.events.CollectionChangedArgs;
 import synfron.reshaper.burp.core.events.IEventListener;
 import synfron.reshaper.burp.core.events.PropertyChangedArgs;
@@ -12,6 +13,7 @@ import synfron.reshaper.burp.core.vars.Variables;
 import synfron.reshaper.burp.ui.components.workspaces.IWorkspaceDependentComponent;
 import synfron.reshaper.burp.ui.components.workspaces.IWorkspaceHost;
 import synfron.reshaper.burp.ui.models.vars.VariableModel;
+import synfron.reshaper.burp.ui.utils.BatchedEventDispatcher;
 import synfron.reshaper.burp.ui.utils.ListCellRenderer;
 
 import javax.swing.*;
@@ -29,6 +31,8 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class VariableListComponent extends JPanel implements HierarchyListener, IWorkspaceDependentComponent, IWorkspaceHost {
+    private static final int MaxIncrementalChanges = 50;
+
     @Getter
     private final Workspace workspace;
     private JList<VariableModel> variableList;
@@ -37,7 +41,7 @@ public class VariableListComponent extends JPanel implements HierarchyListener,
     private JRadioButtonMenuItem listVariable;
     private JSplitButton add;
     private boolean activated;
-    private final IEventListener<CollectionChangedArgs> variablesCollectionChangedListener = this::onVariablesCollectionChanged;
+    private final IEventListener<CollectionChangedArgs> variablesCollectionChangedListener = new BatchedEventDispatcher<>(this::onVariablesCollectionChanged);
     private final IEventListener<PropertyChangedArgs> variableModelChangedListener = this::onVariableModelChanged;
     private final IEventListener<PropertyChangedArgs> newVariableModelChangedListener = this::onNewVariableModelChanged;
     private final PropertyChangedEvent activationChangedEvent = new PropertyChangedEvent();
@@ -175,50 +179,60 @@ public class VariableListComponent extends JPanel implements HierarchyListener,
         return false;
     }
 
-    private void onVariablesCollectionChanged(CollectionChangedArgs collectionChangedArgs) {
-        createInvokeLaterEntryPoint(() -> {
-            Variable item = (Variable) collectionChangedArgs.getItem();
-            switch (collectionChangedArgs.getAction()) {
-                case Add -> {
-                    VariableModel variableModel = new VariableModel(item).withListener(variableModelChangedListener)
-                            .bindActivationChangedEvent(activationChangedEvent);
-                    variableListModel.addElement(variableModel);
-                    defaultSelect();
-                }
-                case Remove -> {
-                    variableListModel.removeElement(new VariableModel(item));
-                    defaultSelect();
-                }
-                case Update -> {
-                    int index = variableListModel.indexOf(new VariableModel(item));
-                    if (index >= 0) {
-                        VariableModel model = variableListModel.get(index);
-                        variableListModel.set(index, model);
-                    }
-                }
-                case Reset -> {
-                    List<VariableModel> currentModels = Collections.list(variableListModel.elements());
-                    Map<Variable, VariableModel> variableModelMap = currentModels.stream()
-                            .filter(variableModel -> variableModel.getVariable() != null)
-                            .collect(Collectors.toMap(VariableModel::getVariable, Function.identity()));
-                    Stream<VariableModel> draftModels = currentModels.stream()
-                            .filter(model -> model.getVariable() == null);
-                    variableListModel.clear();
-                    variableListModel.addAll(Stream.concat(
-                            workspace.getGlobalVariables().getValues().stream()
-                                    .map(variable -> variableModelMap.containsKey(variable) ?
-                                            variableModelMap.get(variable) :
-                                            new VariableModel(variable).withListener(variableModelChangedListener)
-                                                    .bindActivationChangedEvent(activationChangedEvent)
-                                    ),
-                            draftModels
-                    ).collect(Collectors.toList()));
-                    defaultSelect();
-                }
+    private void onVariablesCollectionChanged(List<CollectionChangedArgs> changes) {
+        createEntryPoint(() -> {
+            if (changes.size() > MaxIncrementalChanges || changes.stream().anyMatch(change -> change.getAction() == CollectionChangedAction.Reset)) {
+                resetVariables();
+            } else {
+                changes.forEach(this::applyVariablesCollectionChange);
             }
         });
     }
 
+    private void applyVariablesCollectionChange(CollectionChangedArgs collectionChangedArgs) {
+        Variable item = (Variable) collectionChangedArgs.getItem();
+        switch (collectionChangedArgs.getAction()) {
+            case Add -> {
+                VariableModel variableModel = new VariableModel(item).withListener(variableModelChangedListener)
+                        .bindActivationChangedEvent(activationChangedEvent);
+                variableListModel.addElement(variableModel);
+                defaultSelect();
+            }
+            case Remove -> {
+                variableListModel.removeElement(new VariableModel(item));
+                defaultSelect();
+            }
+            case Update -> {
+                int index = variableListModel.indexOf(new VariableModel(item));
+                if (index >= 0) {
+                    VariableModel model = variableListModel.get(index);
+                    variableListModel.set(index, model);
+                }
+            }
+            case Reset -> resetVariables();
+        }
+    }
+
+    private void resetVariables() {
+        List<VariableModel> currentModels = Collections.list(variableListModel.elements());
+        Map<Variable, VariableModel> variableModelMap = currentModels.stream()
+                .filter(variableModel -> variableModel.getVariable() != null)
+                .collect(Collectors.toMap(VariableModel::getVariable, Function.identity()));
+        Stream<VariableModel> draftModels = currentModels.stream()
+                .filter(model -> model.getVariable() == null);
+        variableListModel.clear();
+        variableListModel.addAll(Stream.concat(
+                workspace.getGlobalVariables().getValues().stream()
+                        .map(variable -> variableModelMap.containsKey(variable) ?
+                                variableModelMap.get(variable) :
+                                new VariableModel(variable).withListener(variableModelChangedListener)
+                                        .bindActivationChangedEvent(activationChangedEvent)
+                        ),
+                draftModels
+        ).collect(Collectors.toList()));
+        defaultSelect();
+    }
+
     private void onVariableModelChanged(PropertyChangedArgs propertyChangedArgs) {
         VariableModel model = (VariableModel)propertyChangedArgs.getSource();
         switch (propertyChangedArgs.getName()) {
@@ -13,6 +13,7 @@ import synfron.reshaper.burp.core.events.PropertyChangedArgs;
 import synfron.reshaper.burp.core.settings.Workspace;
 import synfron.reshaper.burp.core.settings.Workspaces;
 import synfron.reshaper.burp.ui.components.LogsComponent;
+import synfron.reshaper.burp.ui.components.MetricsComponent;
 import synfron.reshaper.burp.ui.components.rules.RulesTabComponent;
 import synfron.reshaper.burp.ui.components.settings.SettingsTabComponent;
 import synfron.reshaper.burp.ui.components.vars.VariablesTabComponent;
@@ -75,6 +76,7 @@ public class WorkspaceComponent extends JPanel implements IWorkspaceHost {
                         case WebSocketRules -> new RulesTabComponent(ProtocolType.WebSocket);
                         case GlobalVariables -> new VariablesTabComponent();
                         case Logs -> new LogsComponent();
+                        case Metrics -> new MetricsComponent();
                         case Settings -> new SettingsTabComponent();
                     });
                 }
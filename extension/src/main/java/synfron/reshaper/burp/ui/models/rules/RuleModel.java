@@ -9,6 +9,7 @@ import synfron.reshaper.burp.core.events.PropertyChangedEvent;
 import synfron.reshaper.burp.core.rules.Rule;
 import synfron.reshaper.burp.core.rules.thens.Then;
 import synfron.reshaper.burp.core.rules.whens.When;
+import synfron.reshaper.burp.core.utils.RegexEngine;
 import synfron.reshaper.burp.ui.models.rules.thens.ThenModel;
 import synfron.reshaper.burp.ui.models.rules.whens.WhenModel;
 
@@ -26,6 +27,8 @@ public class RuleModel {
     @Getter
     private boolean autoRun;
     @Getter
+    private RegexEngine regexEngine;
+    @Getter
     private final ProtocolType protocolType;
     @Getter
     private boolean isNew;
@@ -59,6 +62,7 @@ public class RuleModel {
         this.name = rule.getName();
         this.enabled = rule.isEnabled();
         this.autoRun = rule.isAutoRun();
+        this.regexEngine = rule.getRegexEngine();
         this.diagnosticsEnabled = rule.isDiagnosticsEnabled();
         this.saved = !isNew;
 
@@ -98,6 +102,11 @@ public class RuleModel {
         propertyChanged("autoRun", autoRun);
     }
 
+    public void setRegexEngine(RegexEngine regexEngine) {
+        this.regexEngine = regexEngine;
+        propertyChanged("regexEngine", regexEngine);
+    }
+
     public void addWhen(WhenModel<?,?> when) {
         whens.add(when.withListener(ruleOperationChangedListener));
         propertyChanged("whens", whens);
@@ -143,6 +152,21 @@ public class RuleModel {
         return errors;
     }
 
+    public List<String> getWarnings() {
+        List<String> warnings = new ArrayList<>();
+        warnings.addAll(whens.stream()
+                .flatMap(model -> model.getWarnings().stream()
+                        .map(warning -> String.format("%s: %s", model.getRuleOperation().getType().getName(), warning))
+                ).toList()
+        );
+        warnings.addAll(thens.stream()
+                .flatMap(model -> model.getWarnings().stream()
+                        .map(warning -> String.format("%s: %s", model.getRuleOperation().getType().getName(), warning))
+                ).toList()
+        );
+        return warnings;
+    }
+
     public boolean persist() {
         if (!validate().isEmpty()) {
             return false;
@@ -165,6 +189,7 @@ public class RuleModel {
         rule.setName(name);
         rule.setEnabled(enabled);
         rule.setAutoRun(autoRun);
+        rule.setRegexEngine(regexEngine);
         setSaved(true);
         return true;
     }
@@ -6,6 +6,8 @@ import synfron.reshaper.burp.core.ProtocolType;
 import synfron.reshaper.burp.core.events.PropertyChangedArgs;
 import synfron.reshaper.burp.core.events.PropertyChangedEvent;
 import synfron.reshaper.burp.core.rules.IRuleOperation;
+import synfron.reshaper.burp.core.utils.RegexAnalyzer;
+import synfron.reshaper.burp.core.vars.VariableTag;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,6 +33,14 @@ public abstract class RuleOperationModel<P extends RuleOperationModel<P, T>, T e
         return new ArrayList<>();
     }
 
+    public List<String> getWarnings() {
+        return new ArrayList<>();
+    }
+
+    protected List<String> getRegexWarnings(String regex) {
+        return VariableTag.hasTag(regex) ? new ArrayList<>() : RegexAnalyzer.analyze(regex);
+    }
+
     protected void setValidated(boolean validated) {
         if (validated != this.validated) {
             this.validated = validated;
@@ -0,0 +1,184 @@
+package synfron.reshaper.burp.ui.models.rules.thens;
+
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import synfron.reshaper.burp.core.ProtocolType;
+import synfron.reshaper.burp.core.messages.Encoder;
+import synfron.reshaper.burp.core.messages.MessageValue;
+import synfron.reshaper.burp.core.rules.SetItemPlacement;
+import synfron.reshaper.burp.core.rules.thens.ThenBulkReplace;
+import synfron.reshaper.burp.core.rules.thens.entities.bulkreplace.ReplacementTableSource;
+import synfron.reshaper.burp.core.vars.VariableSource;
+import synfron.reshaper.burp.core.vars.VariableString;
+import synfron.reshaper.burp.core.vars.VariableTag;
+import synfron.reshaper.burp.ui.models.rules.RuleOperationModelType;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class ThenBulkReplaceModel extends ThenModel<ThenBulkReplaceModel, ThenBulkReplace> {
+
+    @Getter
+    private MessageValue messageValue;
+    @Getter
+    private String identifier = "";
+    @Getter
+    private SetItemPlacement identifierPlacement;
+    @Getter
+    private ReplacementTableSource tableSource;
+    @Getter
+    private String entries = "";
+    @Getter
+    private VariableSource listVariableSource;
+    @Getter
+    private String listVariableName = "";
+    @Getter
+    private String filePath = "";
+    @Getter
+    private String encoding = "UTF-8";
+    @Getter
+    private String separator = "{{s:t}}";
+    @Getter
+    private boolean ignoreCase;
+    @Getter
+    private boolean wholeWord;
+
+    public ThenBulkReplaceModel(ProtocolType protocolType, ThenBulkReplace then, Boolean isNew) {
+        super(protocolType, then, isNew);
+        messageValue = then.getMessageValue() != null ? then.getMessageValue() : Arrays.stream(MessageValue.values()).filter(value -> value.isGettable(protocolType) && value.isSettable(protocolType)).findFirst().orElse(null);
+        identifier = VariableString.toString(then.getIdentifier(), identifier);
+        identifierPlacement = then.getIdentifierPlacement();
+        tableSource = then.getTableSource();
+        entries = VariableString.toString(then.getEntries(), entries);
+        listVariableSource = then.getListVariableSource();
+        listVariableName = VariableString.toString(then.getListVariableName(), listVariableName);
+        filePath = VariableString.toString(then.getFilePath(), filePath);
+        encoding = VariableString.toString(then.getEncoding(), encoding);
+        separator = VariableString.toString(then.getSeparator(), separator);
+        ignoreCase = then.isIgnoreCase();
+        wholeWord = then.isWholeWord();
+    }
+
+    public void setMessageValue(MessageValue messageValue) {
+        this.messageValue = messageValue;
+        propertyChanged("messageValue", messageValue);
+    }
+
+    public void setIdentifier(String identifier) {
+        this.identifier = identifier;
+        propertyChanged("identifier", identifier);
+    }
+
+    public void setIdentifierPlacement(SetItemPlacement identifierPlacement) {
+        this.identifierPlacement = identifierPlacement;
+        propertyChanged("identifierPlacement", identifierPlacement);
+    }
+
+    public void setTableSource(ReplacementTableSource tableSource) {
+        this.tableSource = tableSource;
+        propertyChanged("tableSource", tableSource);
+    }
+
+    public void setEntries(String entries) {
+        this.entries = entries;
+        propertyChanged("entries", entries);
+    }
+
+    public void setListVariableSource(VariableSource listVariableSource) {
+        this.listVariableSource = listVariableSource;
+        propertyChanged("listVariableSource", listVariableSource);
+    }
+
+    public void setListVariableName(String listVariableName) {
+        this.listVariableName = listVariableName;
+        propertyChanged("listVariableName", listVariableName);
+    }
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+        propertyChanged("filePath", filePath);
+    }
+
+    public void setEncoding(String encoding) {
+        this.encoding = encoding;
+        propertyChanged("encoding", encoding);
+    }
+
+    public void setSeparator(String separator) {
+        this.separator = separator;
+        propertyChanged("separator", separator);
+    }
+
+    public void setIgnoreCase(boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+        propertyChanged("ignoreCase", ignoreCase);
+    }
+
+    public void setWholeWord(boolean wholeWord) {
+        this.wholeWord = wholeWord;
+        propertyChanged("wholeWord", wholeWord);
+    }
+
+    public List<String> validate() {
+        List<String> errors = super.validate();
+        if (StringUtils.isEmpty(identifier) && messageValue.isIdentifierRequired()) {
+            errors.add("Identifier is required");
+        }
+        switch (tableSource) {
+            case Inline -> {
+                if (StringUtils.isEmpty(entries)) {
+                    errors.add("Entries is required");
+                }
+            }
+            case ListVariable -> {
+                if (StringUtils.isEmpty(listVariableName)) {
+                    errors.add("List Variable Name is required");
+                } else if (!VariableString.isValidVariableName(listVariableName)) {
+                    errors.add("List Variable Name is invalid");
+                }
+            }
+            case File -> {
+                if (StringUtils.isEmpty(filePath)) {
+                    errors.add("File Path is required");
+                }
+                if (!Encoder.isSupported(encoding) && !VariableTag.hasTag(encoding)) {
+                    errors.add("Unsupported encoding");
+                }
+            }
+        }
+        if (StringUtils.isEmpty(separator)) {
+            errors.add("Separator is required");
+        }
+        return errors;
+    }
+
+    public boolean persist() {
+        if (!validate().isEmpty()) {
+            return false;
+        }
+        ruleOperation.setMessageValue(messageValue);
+        ruleOperation.setIdentifier(VariableString.getAsVariableString(identifier));
+        ruleOperation.setIdentifierPlacement(identifierPlacement);
+        ruleOperation.setTableSource(tableSource);
+        ruleOperation.setEntries(VariableString.getAsVariableString(entries));
+        ruleOperation.setListVariableSource(listVariableSource);
+        ruleOperation.setListVariableName(VariableString.getAsVariableString(listVariableName));
+        ruleOperation.setFilePath(VariableString.getAsVariableString(filePath));
+        ruleOperation.setEncoding(VariableString.getAsVariableString(encoding));
+        ruleOperation.setSeparator(VariableString.getAsVariableString(separator));
+        ruleOperation.setIgnoreCase(ignoreCase);
+        ruleOperation.setWholeWord(wholeWord);
+        setValidated(true);
+        return true;
+    }
+
+    @Override
+    protected String getTargetName() {
+        return messageValue.getName();
+    }
+
+    @Override
+    public RuleOperationModelType<ThenBulkReplaceModel, ThenBulkReplace> getType() {
+        return ThenModelType.BulkReplace;
+    }
+}
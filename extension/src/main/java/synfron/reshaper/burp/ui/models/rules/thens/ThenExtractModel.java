@@ -76,6 +76,15 @@ public class ThenExtractModel extends ThenModel<ThenExtractModel, ThenExtract> i
         propertyChanged("itemsPlacement", itemsPlacement);
     }
 
+    @Override
+    public List<String> getWarnings() {
+        List<String> warnings = super.getWarnings();
+        if (extractorType == ExtractorType.Regex) {
+            warnings.addAll(getRegexWarnings(extractor));
+        }
+        return warnings;
+    }
+
     public List<String> validate() {
         List<String> errors = super.validate();
         if (StringUtils.isEmpty(text)) {
@@ -22,6 +22,7 @@ public class ThenModelType<P extends ThenModel<P, T>, T extends Then<T>> extends
     public static final ThenModelType<ThenSetEventDirectionModel, ThenSetEventDirection> SetEventDirection = new ThenModelType<>(ThenSetEventDirectionModel.class, ThenType.SetEventDirection);
     public static final ThenModelType<ThenSetEncodingModel, ThenSetEncoding> SetEncoding = new ThenModelType<>(ThenSetEncodingModel.class, ThenType.SetEncoding);
     public static final ThenModelType<ThenSetValueModel, ThenSetValue> SetValue = new ThenModelType<>(ThenSetValueModel.class, ThenType.SetValue, true);
+    public static final ThenModelType<ThenBulkReplaceModel, ThenBulkReplace> BulkReplace = new ThenModelType<>(ThenBulkReplaceModel.class, ThenType.BulkReplace);
     public static final ThenModelType<ThenDeleteValueModel, ThenDeleteValue> DeleteValue = new ThenModelType<>(ThenDeleteValueModel.class, ThenType.DeleteValue);
     public static final ThenModelType<ThenSetVariableModel, ThenSetVariable> SetVariable = new ThenModelType<>(ThenSetVariableModel.class, ThenType.SetVariable);
     public static final ThenModelType<ThenDeleteVariableModel, ThenDeleteVariable> DeleteVariable = new ThenModelType<>(ThenDeleteVariableModel.class, ThenType.DeleteVariable);
@@ -62,6 +63,7 @@ public class ThenModelType<P extends ThenModel<P, T>, T extends Then<T>> extends
                 SetEventDirection,
                 SetEncoding,
                 SetValue,
+                BulkReplace,
                 DeleteValue,
                 SetVariable,
                 DeleteVariable,
@@ -115,6 +115,15 @@ public abstract class ThenSetModel<P extends ThenSetModel<P, T>, T extends ThenS
         propertyChanged("destinationMessageValuePath", destinationMessageValuePath);
     }
 
+    @Override
+    public List<String> getWarnings() {
+        List<String> warnings = super.getWarnings();
+        if (useReplace) {
+            warnings.addAll(getRegexWarnings(regexPattern));
+        }
+        return warnings;
+    }
+
     @Override
     public List<String> validate() {
         List<String> errors = super.validate();
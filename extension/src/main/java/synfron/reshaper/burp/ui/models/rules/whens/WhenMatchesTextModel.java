@@ -101,6 +101,15 @@ public class WhenMatchesTextModel extends WhenModel<WhenMatchesTextModel, WhenMa
         propertyChanged("useMessageValue", useMessageValue);
     }
 
+    @Override
+    public List<String> getWarnings() {
+        List<String> warnings = super.getWarnings();
+        if (matchType == MatchType.Regex) {
+            warnings.addAll(getRegexWarnings(matchText));
+        }
+        return warnings;
+    }
+
     @Override
     public List<String> validate() {
         List<String> errors = super.validate();
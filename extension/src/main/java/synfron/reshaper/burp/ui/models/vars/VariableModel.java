@@ -11,6 +11,7 @@ import synfron.reshaper.burp.core.utils.TextUtils;
 import synfron.reshaper.burp.core.vars.*;
 import synfron.reshaper.burp.ui.components.workspaces.IWorkspaceDependent;
 import synfron.reshaper.burp.ui.components.workspaces.IWorkspaceHost;
+import synfron.reshaper.burp.ui.utils.BatchedEventDispatcher;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -40,7 +41,7 @@ public class VariableModel implements IWorkspaceHost, IWorkspaceDependent {
     private boolean changedWhileInactive;
     @Getter
     private final PropertyChangedEvent propertyChangedEvent = new PropertyChangedEvent();
-    private final IEventListener<PropertyChangedArgs> variableChanged = this::onVariableChanged;
+    private final IEventListener<PropertyChangedArgs> variableChanged = new BatchedEventDispatcher<>(this::onVariableChanged);
     private final IEventListener<PropertyChangedArgs> activationChanged = this::onActivationChanged;
 
     public VariableModel(boolean isList) {
@@ -63,7 +64,7 @@ public class VariableModel implements IWorkspaceHost, IWorkspaceDependent {
         persistent = variable.isPersistent();
     }
 
-    private void onVariableChanged(PropertyChangedArgs propertyChangedArgs) {
+    private void onVariableChanged(List<PropertyChangedArgs> changes) {
         if (activated) {
             syncProperties();
         } else {
@@ -72,7 +73,7 @@ public class VariableModel implements IWorkspaceHost, IWorkspaceDependent {
     }
 
     private void syncProperties() {
-        createInvokeLaterEntryPoint(() -> {
+        createEntryPoint(() -> {
             value = StringUtils.defaultString(TextUtils.toString(variable.getValue()));
             if (isList) {
                 delimiter = StringEscapeUtils.escapeJava(((ListVariable) variable).getDelimiter());
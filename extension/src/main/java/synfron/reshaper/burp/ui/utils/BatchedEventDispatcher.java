@@ -0,0 +1,51 @@
+package synfron.reshaper.burp.ui.utils;
+
+import synfron.reshaper.burp.core.events.IEventListener;
+
+import javax.swing.*;
+import java.awt.event.ActionEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+public class BatchedEventDispatcher<A> implements IEventListener<A> {
+    public static final int DefaultInterval = 250;
+
+    private final Queue<A> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Consumer<List<A>> handler;
+    private final Timer timer;
+
+    public BatchedEventDispatcher(Consumer<List<A>> handler) {
+        this(DefaultInterval, handler);
+    }
+
+    public BatchedEventDispatcher(int interval, Consumer<List<A>> handler) {
+        this.handler = handler;
+        timer = new Timer(interval, this::onFlush);
+        timer.setRepeats(false);
+    }
+
+    @Override
+    public void invoke(A args) {
+        pending.add(args);
+        if (scheduled.compareAndSet(false, true)) {
+            timer.start();
+        }
+    }
+
+    private void onFlush(ActionEvent actionEvent) {
+        scheduled.set(false);
+        List<A> batch = new ArrayList<>();
+        A args;
+        while ((args = pending.poll()) != null) {
+            batch.add(args);
+        }
+        if (!batch.isEmpty()) {
+            handler.accept(batch);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package synfron.reshaper.burp.core.utils;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+class VectorByteSearch implements IByteSearch {
+    private static final VectorSpecies<Byte> Species = ByteVector.SPECIES_PREFERRED;
+
+    @Override
+    public boolean isSupported() {
+        return Species.length() <= Long.SIZE;
+    }
+
+    @Override
+    public int indexOf(byte[] data, byte[] pattern, int fromIndex, int toIndex) {
+        int lanes = Species.length();
+        int lastOffset = pattern.length - 1;
+        ByteVector first = ByteVector.broadcast(Species, pattern[0]);
+        ByteVector last = ByteVector.broadcast(Species, pattern[lastOffset]);
+        int index = fromIndex;
+        for (int bound = toIndex - lastOffset - lanes; index <= bound; index += lanes) {
+            VectorMask<Byte> candidates = ByteVector.fromArray(Species, data, index).eq(first)
+                    .and(ByteVector.fromArray(Species, data, index + lastOffset).eq(last));
+            for (long bits = candidates.toLong(); bits != 0; bits &= bits - 1) {
+                int position = index + Long.numberOfTrailingZeros(bits);
+                if (lastOffset < 2 || ByteSearch.regionMatches(data, position + 1, pattern, 1, lastOffset - 1)) {
+                    return position;
+                }
+            }
+        }
+        return ByteSearch.scalarIndexOf(data, pattern, index, toIndex);
+    }
+
+    @Override
+    public int indexOfAny(byte[] data, byte[][] patterns, int fromIndex, int toIndex) {
+        int lanes = Species.length();
+        ByteVector[] firsts = new ByteVector[patterns.length];
+        for (int patternIndex = 0; patternIndex < patterns.length; patternIndex++) {
+            firsts[patternIndex] = ByteVector.broadcast(Species, patterns[patternIndex][0]);
+        }
+        int index = fromIndex;
+        for (int bound = toIndex - lanes; index <= bound; index += lanes) {
+            ByteVector block = ByteVector.fromArray(Species, data, index);
+            VectorMask<Byte> candidates = block.eq(firsts[0]);
+            for (int patternIndex = 1; patternIndex < firsts.length; patternIndex++) {
+                candidates = candidates.or(block.eq(firsts[patternIndex]));
+            }
+            for (long bits = candidates.toLong(); bits != 0; bits &= bits - 1) {
+                int position = index + Long.numberOfTrailingZeros(bits);
+                if (ByteSearch.getMatchingPattern(data, position, patterns, toIndex) >= 0) {
+                    return position;
+                }
+            }
+        }
+        return ByteSearch.scalarIndexOfAny(data, patterns, index, toIndex);
+    }
+}
@@ -162,7 +162,7 @@ class Api implements MontoyaApi {
 
         @Override
         public ByteUtils byteUtils() {
-            return null;
+            return new ByteUtilsImpl();
         }
 
         @Override
@@ -201,6 +201,57 @@ class Api implements MontoyaApi {
         }
     }
 
+    private static class ByteUtilsImpl implements ByteUtils {
+
+        @Override
+        public int indexOf(byte[] data, byte[] searchTerm) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int indexOf(byte[] data, byte[] searchTerm, boolean caseSensitive) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int indexOf(byte[] data, byte[] searchTerm, boolean caseSensitive, int from, int to) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int countMatches(byte[] data, byte[] searchTerm) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int countMatches(byte[] data, byte[] searchTerm, boolean caseSensitive) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int countMatches(byte[] data, byte[] searchTerm, boolean caseSensitive, int from, int to) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String convertToString(byte[] bytes) {
+            char[] chars = new char[bytes.length];
+            for (int index = 0; index < bytes.length; index++) {
+                chars[index] = (char) (bytes[index] & 0xFF);
+            }
+            return new String(chars);
+        }
+
+        @Override
+        public byte[] convertFromString(String string) {
+            byte[] bytes = new byte[string.length()];
+            for (int index = 0; index < string.length(); index++) {
+                bytes[index] = (byte) string.charAt(index);
+            }
+            return bytes;
+        }
+    }
+
     private static class WebSocketsImpl implements WebSockets {
 
         @Override
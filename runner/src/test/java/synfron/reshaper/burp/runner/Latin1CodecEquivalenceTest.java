@@ -0,0 +1,135 @@
+package synfron.reshaper.burp.runner;
+
+import burp.api.montoya.utilities.ByteUtils;
+import org.junit.Test;
+import synfron.reshaper.burp.core.utils.Latin1Codec;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class Latin1CodecEquivalenceTest {
+    private final ByteUtils byteUtils = new Api().utilities().byteUtils();
+
+    private String burpDecode(byte[] data, int offset, int length) {
+        return byteUtils.convertToString(Arrays.copyOfRange(data, offset, offset + length));
+    }
+
+    private static String randomText(Random random, int maxChar) {
+        StringBuilder text = new StringBuilder();
+        int length = random.nextInt(64);
+        for (int index = 0; index < length; index++) {
+            text.append((char) random.nextInt(maxChar + 1));
+        }
+        return text.toString();
+    }
+
+    @Test
+    public void encode_Null() {
+        assertArrayEquals(new byte[0], Latin1Codec.encode(null));
+    }
+
+    @Test
+    public void encode_Empty() {
+        assertArrayEquals(byteUtils.convertFromString(""), Latin1Codec.encode(""));
+    }
+
+    @Test
+    public void encode_AllLatin1Chars() {
+        StringBuilder text = new StringBuilder();
+        for (char c = 0; c <= 0xFF; c++) {
+            text.append(c);
+        }
+        assertArrayEquals(byteUtils.convertFromString(text.toString()), Latin1Codec.encode(text.toString()));
+    }
+
+    @Test
+    public void encode_CharsAboveLatin1() {
+        String text = "a\u0100\u20AC\uFFFD\uFFFFz";
+        assertArrayEquals(byteUtils.convertFromString(text), Latin1Codec.encode(text));
+    }
+
+    @Test
+    public void encode_SurrogatePairs() {
+        String text = "x\uD83D\uDE00y\uD800\uDC00";
+        byte[] encoded = Latin1Codec.encode(text);
+        assertEquals(text.length(), encoded.length);
+        assertArrayEquals(byteUtils.convertFromString(text), encoded);
+    }
+
+    @Test
+    public void encode_Random() {
+        Random random = new Random(1);
+        for (int iteration = 0; iteration < 10000; iteration++) {
+            String text = randomText(random, iteration % 2 == 0 ? 0xFF : 0xFFFF);
+            assertArrayEquals(byteUtils.convertFromString(text), Latin1Codec.encode(text));
+        }
+    }
+
+    @Test
+    public void encode_AtOffset() {
+        String text = "Host: \u00E9x\u0101";
+        byte[] buffer = new byte[text.length() + 6];
+        buffer[0] = 'a';
+        buffer[1] = 'b';
+        buffer[2] = 'c';
+        buffer[buffer.length - 1] = 'z';
+        int end = Latin1Codec.encode(text, buffer, 3);
+
+        assertEquals(3 + text.length(), end);
+        assertEquals('a', buffer[0]);
+        assertEquals('c', buffer[2]);
+        assertEquals('z', buffer[buffer.length - 1]);
+        assertArrayEquals(byteUtils.convertFromString(text), Arrays.copyOfRange(buffer, 3, end));
+    }
+
+    @Test
+    public void encode_EmptyAtOffset() {
+        byte[] buffer = new byte[2];
+        assertEquals(2, Latin1Codec.encode("", buffer, 2));
+    }
+
+    @Test
+    public void decode_Null() {
+        assertEquals("", Latin1Codec.decode(null));
+    }
+
+    @Test
+    public void decode_Empty() {
+        assertEquals(byteUtils.convertToString(new byte[0]), Latin1Codec.decode(new byte[0]));
+        assertEquals(burpDecode(new byte[4], 2, 0), Latin1Codec.decode(new byte[4], 2, 0));
+    }
+
+    @Test
+    public void decode_AllByteValues() {
+        byte[] data = new byte[256];
+        for (int index = 0; index < data.length; index++) {
+            data[index] = (byte) index;
+        }
+        assertEquals(byteUtils.convertToString(data), Latin1Codec.decode(data));
+    }
+
+    @Test
+    public void decode_Random() {
+        Random random = new Random(2);
+        for (int iteration = 0; iteration < 10000; iteration++) {
+            byte[] data = new byte[random.nextInt(64)];
+            random.nextBytes(data);
+            assertEquals(byteUtils.convertToString(data), Latin1Codec.decode(data));
+
+            int offset = data.length > 0 ? random.nextInt(data.length) : 0;
+            int length = random.nextInt(data.length - offset + 1);
+            assertEquals(burpDecode(data, offset, length), Latin1Codec.decode(data, offset, length));
+        }
+    }
+
+    @Test
+    public void roundTrip_Latin1() {
+        Random random = new Random(3);
+        for (int iteration = 0; iteration < 1000; iteration++) {
+            String text = randomText(random, 0xFF);
+            assertEquals(text, Latin1Codec.decode(Latin1Codec.encode(text)));
+        }
+    }
+}